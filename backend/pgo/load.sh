@@ -0,0 +1,53 @@
+#!/usr/bin/env bash
+# Drives steady HTTP traffic against a running instance and prints the throughput.
+#
+# Used both to train the PGO instrumented binary and to compare builds. Endpoints are read from
+# endpoints.txt next to this script. Export PGO_TOKEN with a valid bearer token so authenticated
+# endpoints run their real code path instead of answering 401.
+#
+# Usage: pgo/load.sh [base-url] [duration-seconds] [concurrency]
+set -euo pipefail
+
+DIR="$(cd "$(dirname "$0")" && pwd)"
+BASE_URL="${1:-http://localhost:8080}"
+DURATION="${2:-60}"
+CONCURRENCY="${3:-16}"
+BATCH=100
+
+mapfile -t ENDPOINTS < <(grep -Ev '^\s*(#|$)' "$DIR/endpoints.txt")
+AUTH=()
+if [[ -n "${PGO_TOKEN:-}" ]]; then
+  AUTH=(-H "Authorization: Bearer ${PGO_TOKEN}")
+fi
+
+# One curl invocation per batch keeps the connection alive across requests
+URLS=()
+while (( ${#URLS[@]} < BATCH * 3 )); do
+  for endpoint in "${ENDPOINTS[@]}"; do
+    URLS+=(-o /dev/null "${BASE_URL}${endpoint}")
+  done
+done
+
+RESULTS="$(mktemp -d)"
+trap 'rm -rf "$RESULTS"' EXIT
+
+worker() {
+  local end=$((SECONDS + DURATION))
+  while (( SECONDS < end )); do
+    curl -s "${AUTH[@]}" -w '%{http_code}\n' "${URLS[@]}" || true
+  done > "$RESULTS/$1"
+}
+
+START=$SECONDS
+for i in $(seq "$CONCURRENCY"); do
+  worker "$i" &
+done
+wait
+ELAPSED=$((SECONDS - START))
+
+cat "$RESULTS"/* | awk -v elapsed="$ELAPSED" '
+  /^[23]/ { ok++ }
+  !/^[23]/ { failed++ }
+  END {
+    printf "requests: %d ok, %d failed in %ds (%.1f req/s)\n", ok, failed, elapsed, ok / elapsed
+  }'
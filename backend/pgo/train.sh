@@ -0,0 +1,41 @@
+#!/usr/bin/env bash
+# Builds an instrumented native image, trains it with load.sh and stores the execution profile.
+#
+# The instrumented binary needs the same environment as a normal run (database, legacy API and
+# JWKS settings), so export it before calling this script. Requires Oracle GraalVM, as the
+# community edition does not support profile-guided optimization.
+#
+# Usage: pgo/train.sh [duration-seconds] [concurrency]
+set -euo pipefail
+
+DIR="$(cd "$(dirname "$0")" && pwd)"
+MODULE="$(dirname "$DIR")"
+APP=nr-app-name-backend
+PORT="${SERVER_PORT:-8080}"
+DURATION="${1:-300}"
+CONCURRENCY="${2:-16}"
+
+cd "$MODULE"
+./mvnw -B -Pnative,pgo-instrument package -DskipTests -Dskip.unit.tests=true
+
+# The instrumented binary writes default.iprof to its working directory when it exits
+WORK="$(mktemp -d)"
+(cd "$WORK" && exec "$MODULE/target/$APP") &
+PID=$!
+trap 'kill "$PID" 2>/dev/null || true' EXIT
+
+for _ in $(seq 60); do
+  if curl -sf "http://localhost:${PORT}/health/readiness" > /dev/null; then
+    break
+  fi
+  sleep 1
+done
+
+"$DIR/load.sh" "http://localhost:${PORT}" "$DURATION" "$CONCURRENCY"
+
+kill -TERM "$PID"
+wait "$PID" || true
+trap - EXIT
+
+mv "$WORK/default.iprof" "$DIR/default.iprof"
+echo "Profile stored in $DIR/default.iprof, build the optimized image with -Pnative,pgo"
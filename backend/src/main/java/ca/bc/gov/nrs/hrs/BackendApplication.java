@@ -6,6 +6,8 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import org.springframework.data.web.config.EnableSpringDataWebSupport;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main Spring Boot application bootstrap for the HRS backend.
@@ -18,6 +20,10 @@ import org.springframework.data.web.config.EnableSpringDataWebSupport;
  *       concerns such as logging or transactions.</li>
  *   <li>Spring Data web support ({@link EnableSpringDataWebSupport}) configured to
  *       serialize page responses via DTOs (see {@code VIA_DTO}).</li>
+ *   <li>Scheduling ({@link EnableScheduling}) for periodic operational tasks such as connection
+ *       pool sizing.</li>
+ *   <li>Asynchronous methods ({@link EnableAsync}) for work taken off the request thread, such
+ *       as saving snapshots of legacy API responses.</li>
  * </ul>
  *
  * <p>
@@ -29,6 +35,8 @@ import org.springframework.data.web.config.EnableSpringDataWebSupport;
 @SpringBootApplication
 @EnableAspectJAutoProxy(proxyTargetClass = true)
 @EnableSpringDataWebSupport(pageSerializationMode = VIA_DTO)
+@EnableScheduling
+@EnableAsync
 public class BackendApplication {
 
   /**
@@ -0,0 +1,85 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration.ResponseCacheConfiguration;
+import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
+import ca.bc.gov.nrs.hrs.provider.LegacyApiConstants;
+import ca.bc.gov.nrs.hrs.service.CodesService;
+import ca.bc.gov.nrs.hrs.service.LegacySnapshotService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+/**
+ * Encoded response bodies of the code lists.
+ *
+ * <p>The lists are loaded through {@link CodesService} on the request that finds them expired,
+ * since the legacy API only serves them to an authenticated user and the user's token is
+ * forwarded. They go through {@link LegacySnapshotService#refresh}, so within a time to live a
+ * single replica of the cluster calls the legacy API and the others read its response from the
+ * shared snapshot. A list changed by any replica is encoded again on the next request.</p>
+ *
+ * <p>The lists are loaded without the circuit breaker fallback, so a failed call keeps the last
+ * good body. The last known list is only served when nothing was loaded yet. After a failure the
+ * list is loaded again once the retry interval of {@link ResponseBodyCache} has passed.</p>
+ */
+@Component
+public class CodesResponseCache {
+
+  private static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+
+  private final ResponseBodyCache<List<CodeDescriptionDto>> districts;
+
+  /**
+   * Creates the caches of the code lists.
+   *
+   * @param codesService    the service loading the code lists
+   * @param snapshotService the service sharing the code lists between replicas
+   * @param objectMapper    the mapper used to encode the lists
+   * @param configuration   the application configuration holding the time to live
+   */
+  public CodesResponseCache(
+      CodesService codesService,
+      LegacySnapshotService snapshotService,
+      ObjectMapper objectMapper,
+      ApplicationConfiguration configuration
+  ) {
+    Duration ttl = Optional
+        .ofNullable(configuration.getResponseCache())
+        .map(ResponseCacheConfiguration::getTtl)
+        .orElse(DEFAULT_TTL);
+    this.districts = new ResponseBodyCache<>(
+        "district codes",
+        () -> snapshotService.refresh(
+            LegacyApiConstants.DISTRICTS_SNAPSHOT,
+            LegacyApiConstants.DISTRICT_LIST,
+            ttl,
+            codesService::fetchDistrictCodes
+        ),
+        codesService::lastKnownDistrictCodes,
+        objectMapper,
+        ttl
+    );
+    snapshotService.onChange(LegacyApiConstants.DISTRICTS_SNAPSHOT, districts::invalidate);
+  }
+
+  /**
+   * The encoded district code list.
+   *
+   * @return the encoded body
+   */
+  public CachedResponseBody districts() {
+    return districts.get();
+  }
+
+  /**
+   * Serves a district code list loaded elsewhere until the first one is loaded from the service.
+   *
+   * @param codes the district codes
+   */
+  public void seedDistricts(List<CodeDescriptionDto> codes) {
+    districts.seed(codes);
+  }
+}
@@ -2,6 +2,7 @@ package ca.bc.gov.nrs.hrs.configuration;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -9,6 +10,7 @@ import lombok.NoArgsConstructor;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Application configuration properties for the HRS backend bound from properties with prefix
@@ -40,6 +42,48 @@ public class ApplicationConfiguration {
   @NestedConfigurationProperty
   private FrontEndConfiguration frontend;
 
+  /**
+   * Hedging configuration for idempotent requests to the legacy API.
+   */
+  @NestedConfigurationProperty
+  private HedgingConfiguration hedging;
+
+  /**
+   * Warm-up executed at startup, before the service reports itself ready.
+   */
+  @NestedConfigurationProperty
+  private WarmupConfiguration warmup;
+
+  /**
+   * Connection pool sizing bounds and behaviour.
+   */
+  @NestedConfigurationProperty
+  private ConnectionPoolConfiguration connectionPool;
+
+  /**
+   * Limits applied to the user preferences document.
+   */
+  @NestedConfigurationProperty
+  private PreferencesConfiguration preferences;
+
+  /**
+   * Per-user and per-route request rate limits.
+   */
+  @NestedConfigurationProperty
+  private RateLimitConfiguration rateLimit;
+
+  /**
+   * Deadlines given to incoming requests and forwarded downstream.
+   */
+  @NestedConfigurationProperty
+  private DeadlineConfiguration deadline;
+
+  /**
+   * Caching of encoded response bodies for code lists.
+   */
+  @NestedConfigurationProperty
+  private ResponseCacheConfiguration responseCache;
+
   /**
    * External API address configuration.
    *
@@ -61,6 +105,21 @@ public class ApplicationConfiguration {
      * API key or token to authenticate calls to the external service.
      */
     private String key;
+
+    /**
+     * Whether HTTP/2 is negotiated with the external service, using h2c on plain connections.
+     */
+    private boolean http2;
+
+    /**
+     * Whether gzip encoded responses are requested from the external service.
+     */
+    private boolean compression;
+
+    /**
+     * Whether responses are requested in the Smile binary format, with JSON as the fallback.
+     */
+    private boolean smile;
   }
 
   /**
@@ -119,4 +178,287 @@ public class ApplicationConfiguration {
     private Duration age;
   }
 
+  /**
+   * The request hedging configuration.
+   *
+   * <p>When enabled, an idempotent request that has not answered within the configured
+   * percentile of recent latency is sent a second time, and the first answer wins. The number
+   * of extra requests is capped by {@code maxRatio}.</p>
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class HedgingConfiguration {
+
+    /**
+     * Whether hedging is enabled.
+     */
+    private boolean enabled;
+
+    /**
+     * Latency percentile after which a hedge is sent, between 0 and 1 (for example 0.95).
+     */
+    private double percentile;
+
+    /**
+     * Lower bound for the hedge delay, to avoid hedging requests that are fast anyway.
+     */
+    private Duration minDelay;
+
+    /**
+     * Maximum number of hedges per request, as a fraction (for example 0.05 for 5%).
+     */
+    private double maxRatio;
+
+    /**
+     * Number of recent latency samples kept per operation.
+     */
+    private int windowSize;
+
+    /**
+     * Number of samples required before hedging starts for an operation.
+     */
+    private int minSamples;
+  }
+
+  /**
+   * The startup warm-up configuration.
+   *
+   * <p>When enabled, connections, remote keys and serializers are primed before the readiness
+   * probe turns up. Whatever is not done within {@code timeout} is abandoned.</p>
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class WarmupConfiguration {
+
+    /**
+     * Whether the warm-up runs at startup.
+     */
+    private boolean enabled;
+
+    /**
+     * Time budget shared by all warm-up tasks.
+     */
+    private Duration timeout;
+  }
+
+  /**
+   * The connection pool sizing configuration.
+   *
+   * <p>The pool usage is sampled every {@code sampleInterval} and a maximum pool size is
+   * recommended every {@code evaluationInterval}, within {@code minSize} and {@code maxSize}. The
+   * recommendation is applied to the running pool only when {@code autoResize} is enabled.</p>
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class ConnectionPoolConfiguration {
+
+    /**
+     * Whether the recommended size is applied to the running pool.
+     */
+    private boolean autoResize;
+
+    /**
+     * Lower bound for the recommended maximum pool size.
+     */
+    private int minSize;
+
+    /**
+     * Upper bound for the recommended maximum pool size.
+     */
+    private int maxSize;
+
+    /**
+     * Fraction of samples with waiting threads above which the pool should grow.
+     */
+    private double growThreshold;
+
+    /**
+     * How often the pool usage is sampled.
+     */
+    private Duration sampleInterval;
+
+    /**
+     * How often a new size is evaluated from the collected samples.
+     */
+    private Duration evaluationInterval;
+  }
+
+  /**
+   * The user preferences configuration.
+   *
+   * <p>Preferences are stored as a single JSONB document per user and read and written whole.
+   * Documents above {@code maxSize} are rejected, which also bounds the request body once it is
+   * decompressed.</p>
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class PreferencesConfiguration {
+
+    /**
+     * Maximum size of the JSON preferences document of a single user.
+     */
+    private DataSize maxSize;
+
+    /**
+     * Settings of the preference change stream.
+     */
+    @NestedConfigurationProperty
+    private PreferencesStreamConfiguration stream;
+  }
+
+  /**
+   * The preference change stream configuration.
+   *
+   * <p>Each pod keeps at most {@code maxConnections} open streams and sends a heartbeat on each of
+   * them every {@code heartbeat}, so proxies don't close idle connections. A stream is closed
+   * after {@code timeout} and the client is expected to reconnect.</p>
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class PreferencesStreamConfiguration {
+
+    /**
+     * Whether the preference change stream is available.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum number of open streams on a single pod.
+     */
+    private int maxConnections;
+
+    /**
+     * Interval between heartbeats on an idle stream.
+     */
+    private Duration heartbeat;
+
+    /**
+     * How long a stream stays open before the client has to reconnect.
+     */
+    private Duration timeout;
+  }
+
+  /**
+   * The request deadline configuration.
+   *
+   * <p>Every request gets a deadline, from the {@code X-Request-Deadline} header when the caller
+   * sends one or from {@code defaultTimeout} otherwise, never further away than
+   * {@code maxTimeout}. Downstream calls are abandoned once it passes.</p>
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class DeadlineConfiguration {
+
+    /**
+     * Whether requests get a deadline.
+     */
+    private boolean enabled;
+
+    /**
+     * Budget of a request that does not carry a deadline.
+     */
+    private Duration defaultTimeout;
+
+    /**
+     * Largest budget a caller can ask for.
+     */
+    private Duration maxTimeout;
+  }
+
+  /**
+   * The rate limit configuration.
+   *
+   * <p>Each user gets a token bucket per route. A bucket refills at {@code permits} per
+   * {@code period} and holds up to {@code burst} tokens; {@code routes} overrides the default
+   * limit for a route, keyed by its request mapping pattern (for example
+   * {@code /api/users/preferences/{key}}). At most {@code maxBuckets} buckets are kept, and full
+   * buckets are dropped every {@code sweepInterval}.</p>
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class RateLimitConfiguration {
+
+    /**
+     * Whether requests are rate limited.
+     */
+    private boolean enabled;
+
+    /**
+     * Limit of the routes without an entry in {@code routes}.
+     */
+    @NestedConfigurationProperty
+    private RateLimit defaults;
+
+    /**
+     * Limits of specific routes, keyed by request mapping pattern.
+     */
+    private Map<String, RateLimit> routes;
+
+    /**
+     * Maximum number of buckets kept in memory.
+     */
+    private int maxBuckets;
+
+    /**
+     * How often full buckets are dropped.
+     */
+    private Duration sweepInterval;
+
+    /**
+     * A single token bucket limit.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RateLimit {
+
+      /**
+       * Number of tokens added every {@code period}.
+       */
+      private int permits;
+
+      /**
+       * Period over which {@code permits} tokens are added.
+       */
+      private Duration period;
+
+      /**
+       * Maximum number of tokens a bucket holds, which is the largest burst allowed.
+       */
+      private int burst;
+    }
+  }
+
+  /**
+   * The response body cache configuration.
+   *
+   * <p>Code lists are kept with their encoded JSON and gzip bodies, and loaded again every
+   * {@code ttl}. The bodies are only encoded again when the list changed.</p>
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class ResponseCacheConfiguration {
+
+    /**
+     * How long a cached code list is served before it is loaded again.
+     */
+    private Duration ttl;
+  }
 }
@@ -62,7 +62,7 @@ public class ApplicationMetricConfiguration {
    * <p>The returned {@link MeterRegistryCustomizer} adds the application
    * metadata (version, app name and zone) as common tags and registers additional
    * {@link MeterFilter}s for ignoring noisy tags and configuring distribution statistics
-   * (percentiles and service-level objectives).</p>
+   * (percentiles and service-level objectives), with finer buckets for connection pool timers.</p>
    *
    * @return a {@link MeterRegistryCustomizer} that customizes the provided registry
    */
@@ -75,7 +75,8 @@ public class ApplicationMetricConfiguration {
             "zone", appZone
         )
         .meterFilter(ignoreTag())
-        .meterFilter(distribution());
+        .meterFilter(distribution())
+        .meterFilter(connectionPoolHistograms());
   }
 
   /**
@@ -135,4 +136,44 @@ public class ApplicationMetricConfiguration {
     };
   }
 
+  /**
+   * Creates a {@link MeterFilter} that publishes histograms for the connection pool timers.
+   *
+   * <p>Connection acquisition usually takes well under a millisecond, so the service-level
+   * objectives of {@link #distribution()} would put every sample in the first bucket. This filter
+   * runs after it and replaces them, for the {@code hikaricp.connections} timers only, with buckets
+   * suited to acquisition (wait) and usage times, and enables the percentile histogram so wait
+   * times can be aggregated across pods.</p>
+   *
+   * @return a {@link MeterFilter} that applies histogram settings to connection pool timers
+   */
+  public MeterFilter connectionPoolHistograms() {
+    return new MeterFilter() {
+
+      @Override
+      public DistributionStatisticConfig configure(Meter.Id id,
+          DistributionStatisticConfig config) {
+        if (!id.getName().startsWith("hikaricp.connections")) {
+          return config;
+        }
+        return DistributionStatisticConfig
+            .builder()
+            .percentilesHistogram(true)
+            .serviceLevelObjectives(
+                Duration.ofMillis(1).toNanos(),
+                Duration.ofMillis(5).toNanos(),
+                Duration.ofMillis(10).toNanos(),
+                Duration.ofMillis(50).toNanos(),
+                Duration.ofMillis(100).toNanos(),
+                Duration.ofMillis(500).toNanos(),
+                Duration.ofSeconds(1).toNanos(),
+                Duration.ofSeconds(5).toNanos(),
+                Duration.ofSeconds(30).toNanos()
+            )
+            .build()
+            .merge(config);
+      }
+    };
+  }
+
 }
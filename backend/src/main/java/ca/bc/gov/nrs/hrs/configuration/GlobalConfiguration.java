@@ -1,7 +1,11 @@
 package ca.bc.gov.nrs.hrs.configuration;
 
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration.ExternalApiAddress;
 import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
 import ca.bc.gov.nrs.hrs.dto.base.CodeNameDto;
+import ca.bc.gov.nrs.hrs.dto.base.PreferenceChangeDto;
+import ca.bc.gov.nrs.hrs.dto.base.PreferenceEventDto;
+import ca.bc.gov.nrs.hrs.entity.legacy.LegacySnapshotEntity;
 import ca.bc.gov.nrs.hrs.entity.users.UserPreferenceEntity;
 import ca.bc.gov.nrs.hrs.exception.NotFoundGenericException;
 import ca.bc.gov.nrs.hrs.exception.RequestException;
@@ -10,8 +14,13 @@ import ca.bc.gov.nrs.hrs.exception.TooManyRequestsException;
 import ca.bc.gov.nrs.hrs.exception.UnretriableException;
 import ca.bc.gov.nrs.hrs.exception.UserNotFoundException;
 import ca.bc.gov.nrs.hrs.provider.B3HeaderForwarder;
+import ca.bc.gov.nrs.hrs.provider.DeadlineForwarder;
+import ca.bc.gov.nrs.hrs.provider.DeadlineRequestFactory;
+import ca.bc.gov.nrs.hrs.provider.GzipResponseInterceptor;
 import ca.bc.gov.nrs.hrs.provider.JwtForwarderRequestInitializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.net.http.HttpClient;
 import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,6 +28,7 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.client.RestClient;
 
 /**
@@ -36,6 +46,9 @@ import org.springframework.web.client.RestClient;
 @RegisterReflectionForBinding({
     CodeDescriptionDto.class,
     CodeNameDto.class,
+    PreferenceChangeDto.class,
+    PreferenceEventDto.class,
+    LegacySnapshotEntity.class,
     UserPreferenceEntity.class,
     NotFoundGenericException.class,
     RequestException.class,
@@ -47,33 +60,86 @@ import org.springframework.web.client.RestClient;
 @EnableJpaAuditing(auditorAwareRef = "databaseAuditor")
 public class GlobalConfiguration {
 
+  private static final String SMILE_OR_JSON =
+      "application/x-jackson-smile, application/json;q=0.9";
+
   /**
    * Builds a {@link RestClient} configured to call legacy backend APIs.
    *
    * <p>This client uses the legacy API base address from {@link ApplicationConfiguration}
    * and sets the content type to {@code application/json}. It applies both the
-   * {@link JwtForwarderRequestInitializer} and the {@link B3HeaderForwarder} as request
-   * initializers so that JWT forwarding and tracing headers are propagated to legacy services.</p>
+   * {@link JwtForwarderRequestInitializer}, the {@link B3HeaderForwarder} and the
+   * {@link DeadlineForwarder} as request initializers so that JWT, tracing headers and the
+   * remaining request deadline are propagated to legacy services.</p>
+   *
+   * <p>Every call is bounded by the remaining request deadline through the
+   * {@link DeadlineRequestFactory}, and the {@link DeadlineForwarder} reports a call cut short
+   * by it as a deadline exceeded.</p>
+   *
+   * <p>Requests go through the JDK HTTP client. When HTTP/2 is enabled for the legacy API, the
+   * client upgrades plain connections to h2c so concurrent calls are multiplexed over one
+   * connection with compressed headers. When compression is enabled, gzip responses are requested
+   * and decoded by the {@link GzipResponseInterceptor}.</p>
+   *
+   * <p>When Smile is enabled, responses are requested as {@code application/x-jackson-smile}
+   * with JSON as the fallback, so a legacy service without Smile support keeps working. The Smile
+   * mapper comes from the application's {@link Jackson2ObjectMapperBuilder}, the same as JSON.</p>
    *
    * @param configuration application configuration that provides the legacy API address
    * @param jwtForwarder  a request initializer which forwards JWT credentials to the legacy
    *                      backend
    * @param b3Header      a request initializer that forwards B3 trace headers
+   * @param deadline      a request initializer and interceptor that forwards and enforces the
+   *                      remaining request deadline
+   * @param gzip          an interceptor that requests and decodes gzip responses
+   * @param mapperBuilder the Jackson builder used to create the Smile mapper
    * @return a configured {@link RestClient} for legacy APIs
    */
   @Bean
   public RestClient legacyApi(
       ApplicationConfiguration configuration,
       JwtForwarderRequestInitializer jwtForwarder,
-      B3HeaderForwarder b3Header
+      B3HeaderForwarder b3Header,
+      DeadlineForwarder deadline,
+      GzipResponseInterceptor gzip,
+      Jackson2ObjectMapperBuilder mapperBuilder
   ) {
-    return RestClient
+    ExternalApiAddress legacyApi = configuration.getLegacyApi();
+    HttpClient httpClient = HttpClient
+        .newBuilder()
+        .version(legacyApi.isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+        .build();
+
+    RestClient.Builder builder = RestClient
         .builder()
-        .baseUrl(configuration.getLegacyApi().getAddress())
+        .baseUrl(legacyApi.getAddress())
+        .requestFactory(new DeadlineRequestFactory(httpClient))
         .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
         .requestInitializer(jwtForwarder)
         .requestInitializer(b3Header)
-        .build();
+        .requestInitializer(deadline)
+        .requestInterceptor(deadline);
+
+    if (legacyApi.isCompression()) {
+      builder.requestInterceptor(gzip);
+    }
+
+    if (legacyApi.isSmile()) {
+      ObjectMapper smileMapper = mapperBuilder
+          .createXmlMapper(false)
+          .factory(SmileFactory.builder().recyclerPool(JacksonConfiguration.BUFFER_POOL).build())
+          .build();
+      MappingJackson2SmileHttpMessageConverter smile =
+          new MappingJackson2SmileHttpMessageConverter(smileMapper);
+      builder
+          .defaultHeader(HttpHeaders.ACCEPT, SMILE_OR_JSON)
+          .messageConverters(converters -> {
+            converters.removeIf(MappingJackson2SmileHttpMessageConverter.class::isInstance);
+            converters.add(0, smile);
+          });
+    }
+
+    return builder.build();
   }
 
   /**
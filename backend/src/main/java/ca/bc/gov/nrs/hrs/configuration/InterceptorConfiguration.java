@@ -0,0 +1,28 @@
+package ca.bc.gov.nrs.hrs.configuration;
+
+import ca.bc.gov.nrs.hrs.filter.RateLimitInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Web MVC interceptor configuration.
+ *
+ * <p>Registers the {@link RateLimitInterceptor} on the application API endpoints. Actuator
+ * endpoints are not rate limited.</p>
+ */
+@Configuration
+@RequiredArgsConstructor
+public class InterceptorConfiguration implements WebMvcConfigurer {
+
+  private final RateLimitInterceptor rateLimitInterceptor;
+
+  @Override
+  public void addInterceptors(@NonNull InterceptorRegistry registry) {
+    registry
+        .addInterceptor(rateLimitInterceptor)
+        .addPathPatterns("/api/**");
+  }
+}
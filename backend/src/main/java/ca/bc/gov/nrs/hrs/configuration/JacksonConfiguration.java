@@ -0,0 +1,51 @@
+package ca.bc.gov.nrs.hrs.configuration;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.NativeDetector;
+
+/**
+ * Jackson settings that make serialization cheaper, applied to every mapper built from the
+ * application's {@link org.springframework.http.converter.json.Jackson2ObjectMapperBuilder}:
+ * the JSON mapper, the Smile one and the ones used by the message converters.
+ *
+ * <p>On the JVM, the Blackbird module replaces the reflective getter, setter and constructor
+ * calls, record accessors included, with generated lambdas. It is left out of the native image,
+ * where lambdas cannot be generated at run time and the reflection metadata is already resolved
+ * at build time.</p>
+ *
+ * <p>Jackson keeps its read and write buffers in a thread-local pool by default, which is of no
+ * use to virtual threads: each of them is new and allocates its own buffers. The legacy calls
+ * run on virtual threads (see {@code HedgedRequestExecutor}), so every factory shares one
+ * concurrent pool instead, whatever thread borrows from it.</p>
+ */
+@Configuration
+public class JacksonConfiguration {
+
+  /**
+   * Buffer pool shared by every Jackson factory of the application.
+   */
+  public static final RecyclerPool<BufferRecycler> BUFFER_POOL =
+      JsonRecyclerPools.sharedConcurrentDequePool();
+
+  /**
+   * Applies the shared buffer pool and, on the JVM, the Blackbird module.
+   *
+   * @return the builder customizer
+   */
+  @Bean
+  public Jackson2ObjectMapperBuilderCustomizer jacksonPerformanceCustomizer() {
+    return builder -> {
+      builder.factory(JsonFactory.builder().recyclerPool(BUFFER_POOL).build());
+      if (!NativeDetector.inNativeImage()) {
+        builder.postConfigurer(mapper -> mapper.registerModule(new BlackbirdModule()));
+      }
+    };
+  }
+}
@@ -4,6 +4,7 @@ import ca.bc.gov.nrs.hrs.security.ApiAuthorizationCustomizer;
 import ca.bc.gov.nrs.hrs.security.CsrfSecurityCustomizer;
 import ca.bc.gov.nrs.hrs.security.HeadersSecurityCustomizer;
 import ca.bc.gov.nrs.hrs.security.Oauth2SecurityCustomizer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
@@ -11,6 +12,8 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.web.SecurityFilterChain;
 
 /**
@@ -65,4 +68,20 @@ public class SecurityConfiguration {
     return http.build();
   }
 
+  /**
+   * Builds the {@link JwtDecoder} used by the OAuth2 resource server.
+   *
+   * <p>The decoder validates bearer tokens against the configured JWK set. It is exposed as a bean
+   * so the startup warm-up can load the remote keys before the first authenticated request.</p>
+   *
+   * @param jwkSetUri the URI of the JWK set used to verify token signatures
+   * @return the configured {@link JwtDecoder}
+   */
+  @Bean
+  public JwtDecoder jwtDecoder(
+      @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}") String jwkSetUri
+  ) {
+    return NimbusJwtDecoder.withJwkSetUri(jwkSetUri).build();
+  }
+
 }
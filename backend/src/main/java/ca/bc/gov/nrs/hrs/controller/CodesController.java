@@ -1,11 +1,14 @@
 package ca.bc.gov.nrs.hrs.controller;
 
+import ca.bc.gov.nrs.hrs.cache.CodesResponseCache;
 import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
-import ca.bc.gov.nrs.hrs.service.CodesService;
 import io.micrometer.observation.annotation.Observed;
-import java.util.List;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -16,7 +19,7 @@ import org.springframework.web.bind.annotation.RestController;
  * <p>Endpoints are exposed under {@code /api/codes} and return collections of
  * {@link CodeDescriptionDto} for various code types (districts, sampling, and
  * assessment area statuses). Implementation methods delegate to
- * {@link CodesService} and emit basic access logs.</p>
+ * {@link ca.bc.gov.nrs.hrs.service.CodesService} and emit basic access logs.</p>
  *
  * @since 1.0.0
  */
@@ -27,20 +30,24 @@ import org.springframework.web.bind.annotation.RestController;
 @Slf4j
 public class CodesController {
 
-  private final CodesService service;
+  private final CodesResponseCache responseCache;
 
   /**
    * Retrieve district codes.
    *
    * <p>Returns a list of {@link CodeDescriptionDto} representing district codes
-   * available to the application.</p>
+   * available to the application. The list is written from its cached encoded form, see
+   * {@link CodesResponseCache}.</p>
    *
-   * @return list of district code descriptions
+   * @param request  the current request
+   * @param response the response the list is written to
+   * @throws IOException when the response cannot be written
    */
-  @GetMapping("/districts")
-  public List<CodeDescriptionDto> getDistrictCodes() {
+  @GetMapping(value = "/districts", produces = MediaType.APPLICATION_JSON_VALUE)
+  public void getDistrictCodes(HttpServletRequest request, HttpServletResponse response)
+      throws IOException {
     log.info("Listing all districts");
-    return service.getDistrictCodes();
+    responseCache.districts().writeTo(request, response);
   }
 
 }
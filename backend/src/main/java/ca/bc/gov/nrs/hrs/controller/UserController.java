@@ -1,20 +1,34 @@
 package ca.bc.gov.nrs.hrs.controller;
 
+import ca.bc.gov.nrs.hrs.service.PreferenceStreamService;
 import ca.bc.gov.nrs.hrs.service.UserService;
 import ca.bc.gov.nrs.hrs.util.JwtPrincipalUtil;
 import io.micrometer.observation.annotation.Observed;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpStatus;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * REST endpoints for user-specific operations such as reading and updating user preferences.
@@ -23,6 +37,12 @@ import org.springframework.web.bind.annotation.RestController;
  * authenticated user's id is resolved from the provided JWT using
  * {@link JwtPrincipalUtil#getUserId(org.springframework.security.oauth2.jwt.Jwt)}.
  * </p>
+ *
+ * <p>The revision of the preferences is exposed as a weak {@code ETag}, since it identifies the
+ * document rather than its bytes, and a strong one would keep the server from compressing the
+ * response. Reads answer 304 to a matching {@code If-None-Match} after reading only the revision,
+ * and an update sent with {@code If-Match} is applied only if the preferences are still at that
+ * revision, whether the tag is sent weak or strong.</p>
  */
 @RestController
 @RequestMapping("/api/users")
@@ -31,7 +51,10 @@ import org.springframework.web.bind.annotation.RestController;
 @Slf4j
 public class UserController {
 
+  private static final CacheControl PREFERENCES_CACHE = CacheControl.noCache().cachePrivate();
+
   private final UserService userService;
+  private final PreferenceStreamService preferenceStreamService;
 
   /**
    * Retrieve the preferences for the authenticated user.
@@ -40,34 +63,147 @@ public class UserController {
    * {@link UserService#getUserPreferences(String)}.
    * </p>
    *
-   * @param jwt the authenticated user's JWT principal (injected by Spring)
-   * @return a map of preference keys to values for the authenticated user
+   * @param jwt     the authenticated user's JWT principal (injected by Spring)
+   * @param request the current request, used to check {@code If-None-Match}
+   * @return a map of preference keys to values for the authenticated user, or nothing when the
+   *     client's copy is still current
    */
   @GetMapping("/preferences")
-  public Map<String, Object> getPreferences(@AuthenticationPrincipal Jwt jwt) {
-    return userService.getUserPreferences(JwtPrincipalUtil.getUserId(jwt));
+  public Map<String, Object> getPreferences(
+      @AuthenticationPrincipal Jwt jwt,
+      ServletWebRequest request
+  ) {
+    String userId = JwtPrincipalUtil.getUserId(jwt);
+    if (isNotModified(userId, request)) {
+      return null;
+    }
+    return userService.getUserPreferences(userId);
+  }
+
+  /**
+   * Retrieve only the selected preferences of the authenticated user.
+   *
+   * <p>Used when a page needs one or two keys, such as the theme or a table layout. The JSON is
+   * assembled by the database and returned as is; keys that don't exist are left out.</p>
+   *
+   * @param jwt     the authenticated user's JWT principal (injected by Spring)
+   * @param keys    the preference keys to read, as a comma-separated list
+   * @param request the current request, used to check {@code If-None-Match}
+   * @return a JSON object with the selected preferences, or nothing when the client's copy is
+   *     still current
+   */
+  @GetMapping(value = "/preferences", params = "keys", produces = MediaType.APPLICATION_JSON_VALUE)
+  public String getSelectedPreferences(
+      @AuthenticationPrincipal Jwt jwt,
+      @RequestParam List<String> keys,
+      ServletWebRequest request
+  ) {
+    String userId = JwtPrincipalUtil.getUserId(jwt);
+    if (isNotModified(userId, request)) {
+      return null;
+    }
+    return userService.getUserPreferences(userId, keys);
+  }
+
+  /**
+   * Retrieve a single preference of the authenticated user.
+   *
+   * @param jwt     the authenticated user's JWT principal (injected by Spring)
+   * @param key     the preference key to read
+   * @param request the current request, used to check {@code If-None-Match}
+   * @return the JSON value of the preference, or a 404 when it does not exist
+   */
+  @GetMapping(value = "/preferences/{key}", produces = MediaType.APPLICATION_JSON_VALUE)
+  public String getPreference(
+      @AuthenticationPrincipal Jwt jwt,
+      @PathVariable String key,
+      ServletWebRequest request
+  ) {
+    String userId = JwtPrincipalUtil.getUserId(jwt);
+    if (isNotModified(userId, request)) {
+      return null;
+    }
+    return userService.getUserPreference(userId, key);
+  }
+
+  /**
+   * Stream the changes to the preferences of the authenticated user as server-sent events.
+   *
+   * <p>A {@code revision} event with the current revision, or -1 when the user has no
+   * preferences yet, is sent first, then a {@code preferences} event for every change with the
+   * new revision, the changed keys and their values, and the removed keys. Another {@code revision} event means changes may have been
+   * missed, and the client should read the preferences again if its copy is older. Answers 503
+   * when this instance has no room for another stream.</p>
+   *
+   * @param jwt the authenticated user's JWT principal (injected by Spring)
+   * @return the event stream
+   */
+  @GetMapping(value = "/preferences/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter streamPreferences(@AuthenticationPrincipal Jwt jwt) {
+    return preferenceStreamService.open(JwtPrincipalUtil.getUserId(jwt));
   }
 
   /**
    * Update (replace) the preferences for the authenticated user.
    *
    * <p>The preferences provided in the request body are saved for the user identified by the JWT.
-   * The method delegates to {@link UserService#saveUserPreferences(String, java.util.Map)}.
+   * Without {@code If-Match} the preferences are replaced unconditionally. With it, they are
+   * replaced only if they are still at the given revision, otherwise the request fails with a 412
+   * and the client should read them again. {@code If-Match: *} replaces them only if they exist.
    * </p>
    *
    * @param jwt         the authenticated user's JWT principal (injected by Spring)
+   * @param ifMatch     the {@code If-Match} header, if any
    * @param preferences a map containing the preference keys and values to save
+   * @return an accepted response carrying the {@code ETag} of the saved preferences
    */
   @PutMapping("/preferences")
-  @ResponseStatus(HttpStatus.ACCEPTED)
-  public void updatePreferences(
+  public ResponseEntity<Void> updatePreferences(
       @AuthenticationPrincipal Jwt jwt,
+      @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
       @RequestBody Map<String, Object> preferences
   ) {
-    userService.saveUserPreferences(
-        JwtPrincipalUtil.getUserId(jwt),
-        preferences
-    );
+    String userId = JwtPrincipalUtil.getUserId(jwt);
+    List<ETag> expected = ETag.parse(Objects.toString(ifMatch, StringUtils.EMPTY));
+
+    long revision;
+    if (expected.isEmpty()) {
+      revision = userService.saveUserPreferences(userId, preferences);
+    } else if (expected.stream().anyMatch(ETag::isWildcard)) {
+      revision = userService.replaceUserPreferences(userId, preferences);
+    } else {
+      revision = userService.saveUserPreferences(userId, preferences, revisionsOf(expected));
+    }
+
+    return ResponseEntity
+        .accepted()
+        .eTag(etagOf(revision))
+        .cacheControl(PREFERENCES_CACHE)
+        .build();
+  }
+
+  private boolean isNotModified(String userId, ServletWebRequest request) {
+    HttpServletResponse response = request.getResponse();
+    if (response != null) {
+      response.setHeader(HttpHeaders.CACHE_CONTROL, PREFERENCES_CACHE.getHeaderValue());
+    }
+    return userService
+        .getUserPreferencesRevision(userId)
+        .map(revision -> request.checkNotModified(etagOf(revision)))
+        .orElse(false);
+  }
+
+  private static String etagOf(long revision) {
+    return "W/\"" + revision + "\"";
+  }
+
+  // The tags are compared as revisions, so the W/ prefix is ignored
+  private static List<Long> revisionsOf(List<ETag> etags) {
+    return etags
+        .stream()
+        .map(etag -> NumberUtils.toLong(etag.tag(), -1L))
+        .filter(revision -> revision >= 0)
+        .toList();
   }
 
 }
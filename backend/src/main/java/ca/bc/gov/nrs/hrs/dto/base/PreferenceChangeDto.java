@@ -0,0 +1,24 @@
+package ca.bc.gov.nrs.hrs.dto.base;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for a change to a user's preferences, as sent by the database trigger on
+ * the {@code user_preferences} notification channel.
+ *
+ * <p>The key lists are null when they didn't fit in a notification; the change then only tells
+ * the new revision.</p>
+ *
+ * @param userId   the id of the user whose preferences changed
+ * @param revision the revision after the change
+ * @param changed  the keys that were added or changed
+ * @param removed  the keys that were removed
+ */
+public record PreferenceChangeDto(
+    String userId,
+    long revision,
+    List<String> changed,
+    List<String> removed
+) {
+
+}
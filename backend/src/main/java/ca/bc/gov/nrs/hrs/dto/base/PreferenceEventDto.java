@@ -0,0 +1,25 @@
+package ca.bc.gov.nrs.hrs.dto.base;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import java.util.List;
+
+/**
+ * Data Transfer Object for an event of the preference change stream.
+ *
+ * <p>Carries the values of the keys that changed, as the JSON read from the database, and the
+ * keys that were removed. When neither is present, the event only tells the current revision and
+ * the client should read the preferences again if its copy is older.</p>
+ *
+ * @param revision the revision of the preferences
+ * @param changed  a JSON object with the keys that were added or changed, and their new values
+ * @param removed  the keys that were removed
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PreferenceEventDto(
+    long revision,
+    @JsonRawValue String changed,
+    List<String> removed
+) {
+
+}
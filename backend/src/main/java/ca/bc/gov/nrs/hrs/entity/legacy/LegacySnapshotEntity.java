@@ -0,0 +1,70 @@
+package ca.bc.gov.nrs.hrs.entity.legacy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * JPA entity that stores the last successful response of a legacy API call.
+ *
+ * <p>
+ * Maps to the database table {@code hrs.legacy_snapshot}. There is one row per cacheable call,
+ * keyed by the name of the call, holding the response body as a JSONB {@code payload}. The rows
+ * are shared by every pod, so a pod that cannot reach the legacy API still serves what any pod
+ * last received from it.
+ * </p>
+ */
+@Entity
+@Table(name = "legacy_snapshot", schema = "hrs")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "key")
+public class LegacySnapshotEntity {
+
+  /**
+   * Name of the legacy API call, such as {@code districts}.
+   */
+  @Id
+  @Column(name = "snapshot_key")
+  private String key;
+
+  /**
+   * Response body of the call, kept as a JSON tree so any response type can be stored.
+   */
+  @Column(name = "payload", columnDefinition = "jsonb")
+  @JdbcTypeCode(SqlTypes.JSON)
+  private JsonNode payload;
+
+  /**
+   * MD5 hash of the response body, compared before writing so unchanged bodies are not written
+   * again.
+   */
+  @Column(name = "payload_hash")
+  private String payloadHash;
+
+  /**
+   * Timestamp of the last change to the response body.
+   */
+  @Column(name = "updated_date")
+  private LocalDateTime updatedAt;
+
+  /**
+   * Timestamp of the last successful call, whether the response body changed or not. Pods compare
+   * it with their cache time to live to know whether the legacy API needs to be called again.
+   */
+  @Column(name = "refreshed_date")
+  private LocalDateTime refreshedAt;
+
+}
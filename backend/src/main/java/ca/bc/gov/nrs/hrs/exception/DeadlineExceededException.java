@@ -0,0 +1,28 @@
+package ca.bc.gov.nrs.hrs.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Exception thrown when the deadline of the current request has passed before a downstream call
+ * answered.
+ *
+ * <p>Annotated with {@link ResponseStatus} so when thrown from a controller it translates to an
+ * HTTP 504 (Gateway Timeout) response.</p>
+ */
+@ResponseStatus(value = HttpStatus.GATEWAY_TIMEOUT)
+public class DeadlineExceededException extends ResponseStatusException {
+
+  /**
+   * Constructs a new DeadlineExceededException for the operation that did not complete.
+   *
+   * @param operation the name of the downstream operation
+   */
+  public DeadlineExceededException(String operation) {
+    super(
+        HttpStatus.GATEWAY_TIMEOUT,
+        String.format("Request deadline exceeded while waiting for %s", operation)
+    );
+  }
+}
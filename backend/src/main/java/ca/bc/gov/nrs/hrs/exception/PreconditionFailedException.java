@@ -0,0 +1,28 @@
+package ca.bc.gov.nrs.hrs.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Exception thrown when a conditional update does not match the current revision of a resource.
+ *
+ * <p>Annotated with {@link ResponseStatus} so when thrown from a controller it translates to an
+ * HTTP 412 (Precondition Failed) response. The client is expected to read the resource again
+ * and retry with the new {@code ETag}.</p>
+ */
+@ResponseStatus(value = HttpStatus.PRECONDITION_FAILED)
+public class PreconditionFailedException extends ResponseStatusException {
+
+  /**
+   * Constructs a new PreconditionFailedException for the given entity.
+   *
+   * @param entity the entity that was changed by someone else
+   */
+  public PreconditionFailedException(String entity) {
+    super(
+        HttpStatus.PRECONDITION_FAILED,
+        String.format("%s was changed since it was last read", entity)
+    );
+  }
+}
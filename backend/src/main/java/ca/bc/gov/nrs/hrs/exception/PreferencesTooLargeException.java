@@ -0,0 +1,44 @@
+package ca.bc.gov.nrs.hrs.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Exception thrown when a user's preferences document is larger than the configured limit.
+ *
+ * <p>Annotated with {@link ResponseStatus} so when thrown from a controller it translates to an
+ * HTTP 413 (Content Too Large) response telling the user what the limit is.</p>
+ */
+@ResponseStatus(value = HttpStatus.PAYLOAD_TOO_LARGE)
+public class PreferencesTooLargeException extends ResponseStatusException {
+
+  /**
+   * Constructs a new PreferencesTooLargeException when the size is not known yet, for example
+   * while the request body is still being read.
+   *
+   * @param limit the configured maximum size
+   */
+  public PreferencesTooLargeException(DataSize limit) {
+    super(
+        HttpStatus.PAYLOAD_TOO_LARGE,
+        String.format("Preferences exceed the maximum size of %d bytes", limit.toBytes())
+    );
+  }
+
+  /**
+   * Constructs a new PreferencesTooLargeException for a document of a known size.
+   *
+   * @param size  the size of the document, in bytes
+   * @param limit the configured maximum size
+   */
+  public PreferencesTooLargeException(long size, DataSize limit) {
+    super(
+        HttpStatus.PAYLOAD_TOO_LARGE,
+        String.format("Preferences have %d bytes, the maximum size is %d bytes",
+            size, limit.toBytes()
+        )
+    );
+  }
+}
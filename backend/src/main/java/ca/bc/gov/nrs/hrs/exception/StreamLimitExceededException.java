@@ -0,0 +1,28 @@
+package ca.bc.gov.nrs.hrs.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Exception thrown when a pod has no room left for another event stream.
+ *
+ * <p>Annotated with {@link ResponseStatus} so when thrown from a controller it translates to an
+ * HTTP 503 (Service Unavailable) response. The client is expected to reconnect later, possibly
+ * to another pod.</p>
+ */
+@ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE)
+public class StreamLimitExceededException extends ResponseStatusException {
+
+  /**
+   * Constructs a new StreamLimitExceededException for the given stream.
+   *
+   * @param stream the name of the stream that could not be opened
+   */
+  public StreamLimitExceededException(String stream) {
+    super(
+        HttpStatus.SERVICE_UNAVAILABLE,
+        String.format("No more %s streams can be opened right now", stream)
+    );
+  }
+}
@@ -1,5 +1,6 @@
 package ca.bc.gov.nrs.hrs.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
@@ -8,12 +9,15 @@ import org.springframework.web.bind.annotation.ResponseStatus;
  *
  * <p>This extends {@link RetriableException} and is annotated with
  * {@link ResponseStatus} to map to HTTP 429 (Too Many Requests). The
- * constructor accepts a retry-after value which is included in the message.
+ * constructor accepts a retry-after value which is included in the message
+ * and sent back in the {@code Retry-After} header.
  * </p>
  */
 @ResponseStatus(value = HttpStatus.TOO_MANY_REQUESTS)
 public class TooManyRequestsException extends RetriableException {
 
+  private final String retryAfterValue;
+
   /**
    * Constructs a new TooManyRequestsException with the specified entity and retry-after value.
    *
@@ -27,5 +31,17 @@ public class TooManyRequestsException extends RetriableException {
             entity, retryAfter
         )
     );
+    this.retryAfterValue = retryAfter;
+  }
+
+  @Override
+  public HttpHeaders getHeaders() {
+    if (retryAfterValue == null) {
+      return super.getHeaders();
+    }
+    HttpHeaders headers = new HttpHeaders();
+    headers.putAll(super.getHeaders());
+    headers.set(HttpHeaders.RETRY_AFTER, retryAfterValue);
+    return headers;
   }
 }
@@ -0,0 +1,253 @@
+package ca.bc.gov.nrs.hrs.filter;
+
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration.PreferencesConfiguration;
+import ca.bc.gov.nrs.hrs.exception.PreferencesTooLargeException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * Servlet filter that bounds and decodes the body of preference updates.
+ *
+ * <p>Bodies sent with {@code Content-Encoding: gzip} are decompressed on the fly, so clients can
+ * upload large documents cheaply. Every body, compressed or not, is read through a counting
+ * stream that stops with a {@link PreferencesTooLargeException} as soon as more bytes than the
+ * configured maximum size have been read, so an oversized or highly compressed document is never
+ * fully buffered. When the declared {@code Content-Length} of a plain body is already above the
+ * limit, the request is rejected before anything is read.</p>
+ *
+ * <p>The filter only applies to requests with a body on {@code /api/users/preferences} and runs
+ * after authentication, so anonymous callers never get to stream a body.</p>
+ */
+@Slf4j
+@Component
+public class PreferencesRequestFilter extends OncePerRequestFilter {
+
+  private static final String PATH = "/api/users/preferences";
+  private static final Set<String> METHODS = Set.of("PUT", "POST", "PATCH");
+  private static final String GZIP = "gzip";
+  private static final String IDENTITY = "identity";
+  private static final DataSize UNLIMITED = DataSize.ofBytes(Long.MAX_VALUE);
+  private static final UrlPathHelper PATH_HELPER = new UrlPathHelper();
+
+  private final DataSize maxSize;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Creates the filter using the preference limits from the application configuration.
+   *
+   * @param configuration the application configuration holding the maximum size
+   * @param objectMapper  the mapper used to write the problem detail body
+   */
+  public PreferencesRequestFilter(
+      ApplicationConfiguration configuration,
+      ObjectMapper objectMapper
+  ) {
+    this.maxSize = Optional
+        .ofNullable(configuration.getPreferences())
+        .map(PreferencesConfiguration::getMaxSize)
+        .orElse(UNLIMITED);
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !METHODS.contains(request.getMethod())
+           || !PATH_HELPER.getPathWithinApplication(request).startsWith(PATH);
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      FilterChain filterChain
+  ) throws ServletException, IOException {
+
+    String encoding = StringUtils.trimToEmpty(request.getHeader(HttpHeaders.CONTENT_ENCODING));
+    boolean compressed = GZIP.equalsIgnoreCase(encoding);
+
+    if (!compressed && !encoding.isEmpty() && !IDENTITY.equalsIgnoreCase(encoding)) {
+      reject(
+          HttpStatus.UNSUPPORTED_MEDIA_TYPE,
+          String.format("Content-Encoding %s is not supported, use gzip", encoding),
+          request,
+          response
+      );
+      return;
+    }
+
+    if (!compressed && request.getContentLengthLong() > maxSize.toBytes()) {
+      reject(
+          HttpStatus.PAYLOAD_TOO_LARGE,
+          new PreferencesTooLargeException(request.getContentLengthLong(), maxSize).getReason(),
+          request,
+          response
+      );
+      return;
+    }
+
+    filterChain.doFilter(new BoundedRequest(request, compressed, maxSize), response);
+  }
+
+  private void reject(
+      HttpStatus status,
+      String detail,
+      HttpServletRequest request,
+      HttpServletResponse response
+  ) throws IOException {
+    log.debug("Rejecting preferences request to {}: {}", request.getRequestURI(), detail);
+
+    ProblemDetail problem = ProblemDetail.forStatusAndDetail(status, detail);
+    problem.setInstance(URI.create(request.getRequestURI()));
+
+    response.setStatus(status.value());
+    response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+    objectMapper.writeValue(response.getOutputStream(), problem);
+  }
+
+  /**
+   * Request whose body is decompressed when needed and limited to the maximum size.
+   */
+  private static final class BoundedRequest extends HttpServletRequestWrapper {
+
+    private final boolean compressed;
+    private final DataSize maxSize;
+    private ServletInputStream inputStream;
+
+    private BoundedRequest(HttpServletRequest request, boolean compressed, DataSize maxSize) {
+      super(request);
+      this.compressed = compressed;
+      this.maxSize = maxSize;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+      if (inputStream == null) {
+        ServletInputStream source = super.getInputStream();
+        inputStream = new BoundedInputStream(
+            source,
+            compressed ? new GZIPInputStream(source) : source,
+            maxSize
+        );
+      }
+      return inputStream;
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+      Charset charset = Optional
+          .ofNullable(getCharacterEncoding())
+          .map(Charset::forName)
+          .orElse(StandardCharsets.UTF_8);
+      return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+
+    @Override
+    public int getContentLength() {
+      return compressed ? -1 : super.getContentLength();
+    }
+
+    @Override
+    public long getContentLengthLong() {
+      return compressed ? -1L : super.getContentLengthLong();
+    }
+
+    @Override
+    public String getHeader(String name) {
+      if (compressed && HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+        return null;
+      }
+      return super.getHeader(name);
+    }
+  }
+
+  /**
+   * Input stream that fails once more than the maximum size has been read.
+   */
+  private static final class BoundedInputStream extends ServletInputStream {
+
+    private final ServletInputStream source;
+    private final InputStream delegate;
+    private final DataSize maxSize;
+    private final long limit;
+    private long count;
+
+    private BoundedInputStream(ServletInputStream source, InputStream delegate, DataSize maxSize) {
+      this.source = source;
+      this.delegate = delegate;
+      this.maxSize = maxSize;
+      this.limit = maxSize.toBytes();
+    }
+
+    @Override
+    public int read() throws IOException {
+      int value = delegate.read();
+      if (value != -1) {
+        count(1);
+      }
+      return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+      int read = delegate.read(buffer, offset, length);
+      if (read > 0) {
+        count(read);
+      }
+      return read;
+    }
+
+    @Override
+    public boolean isFinished() {
+      return source.isFinished();
+    }
+
+    @Override
+    public boolean isReady() {
+      return source.isReady();
+    }
+
+    @Override
+    public void setReadListener(ReadListener readListener) {
+      source.setReadListener(readListener);
+    }
+
+    @Override
+    public void close() throws IOException {
+      delegate.close();
+    }
+
+    private void count(int read) {
+      count += read;
+      if (count > limit) {
+        throw new PreferencesTooLargeException(maxSize);
+      }
+    }
+  }
+}
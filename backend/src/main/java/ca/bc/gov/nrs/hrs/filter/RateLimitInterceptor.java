@@ -0,0 +1,54 @@
+package ca.bc.gov.nrs.hrs.filter;
+
+import ca.bc.gov.nrs.hrs.exception.TooManyRequestsException;
+import ca.bc.gov.nrs.hrs.util.JwtPrincipalUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.TimeUnit;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Interceptor that applies the {@link RateLimiter} to authenticated API requests.
+ *
+ * <p>The bucket is chosen by the user id from the JWT and by the request mapping pattern of the
+ * handler, so {@code /api/users/preferences/theme} and {@code /api/users/preferences/layout}
+ * share one bucket. Requests above the limit end with a {@link TooManyRequestsException}, which
+ * answers 429 with a {@code Retry-After} header in seconds.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+  private final RateLimiter rateLimiter;
+
+  @Override
+  public boolean preHandle(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull Object handler
+  ) {
+    if (!rateLimiter.isEnabled()) {
+      return true;
+    }
+
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    if (!(authentication instanceof JwtAuthenticationToken jwt) || route == null) {
+      return true;
+    }
+
+    long wait = rateLimiter.tryAcquire(JwtPrincipalUtil.getUserId(jwt), route.toString());
+    if (wait > 0) {
+      long seconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(wait + 999_999_999L));
+      throw new TooManyRequestsException("User", String.valueOf(seconds));
+    }
+    return true;
+  }
+}
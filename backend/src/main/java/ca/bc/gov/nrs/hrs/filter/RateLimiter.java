@@ -0,0 +1,174 @@
+package ca.bc.gov.nrs.hrs.filter;
+
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration.RateLimitConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration.RateLimitConfiguration.RateLimit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-user, per-route token bucket rate limiter.
+ *
+ * <p>Each bucket is a single {@link AtomicLong} holding the theoretical arrival time of the next
+ * request, in {@link System#nanoTime()} units (the generic cell rate algorithm). Taking a token is
+ * one read and one compare-and-set, with no lock and no allocation once the bucket exists, so the
+ * limiter adds well under a microsecond to a request. A bucket whose arrival time is in the past
+ * is full, which is the same as having no bucket, so the periodic sweep drops those and the map
+ * only holds users that were active recently. When the map reaches its maximum size, a new user
+ * triggers a sweep at most once a second; if the map is still full, new users are let through
+ * untracked rather than growing it further.</p>
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+  private static final long INLINE_SWEEP_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+  private final boolean enabled;
+  private final int maxBuckets;
+  private final Limit defaultLimit;
+  private final Map<String, Limit> routeLimits = new HashMap<>();
+  private final Map<BucketKey, AtomicLong> buckets = new ConcurrentHashMap<>();
+  private final Map<String, Counter> rejections = new ConcurrentHashMap<>();
+  private final MeterRegistry registry;
+  private final Counter untracked;
+  private final AtomicLong nextInlineSweep = new AtomicLong(System.nanoTime());
+
+  /**
+   * Creates the limiter using the limits from the application configuration.
+   *
+   * @param configuration the application configuration holding the limits
+   * @param registry      the meter registry used to publish rejection and bucket metrics
+   */
+  public RateLimiter(ApplicationConfiguration configuration, MeterRegistry registry) {
+    RateLimitConfiguration rateLimit = configuration.getRateLimit() != null
+        ? configuration.getRateLimit()
+        : new RateLimitConfiguration();
+    this.enabled = rateLimit.isEnabled() && rateLimit.getDefaults() != null;
+    this.maxBuckets = rateLimit.getMaxBuckets();
+    this.defaultLimit = enabled ? new Limit(rateLimit.getDefaults()) : null;
+    this.registry = registry;
+
+    if (enabled && rateLimit.getRoutes() != null) {
+      rateLimit.getRoutes().forEach((route, limit) -> routeLimits.put(route, new Limit(limit)));
+    }
+
+    Gauge
+        .builder("hrs.ratelimit.buckets", buckets, Map::size)
+        .description("Rate limit buckets currently tracked")
+        .register(registry);
+    this.untracked = Counter
+        .builder("hrs.ratelimit.untracked")
+        .description("Requests let through because the bucket map was full")
+        .register(registry);
+  }
+
+  /**
+   * Whether requests are rate limited at all.
+   *
+   * @return true when rate limiting is enabled
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Takes a token from the bucket of the user for the route.
+   *
+   * @param userId the id of the user
+   * @param route  the request mapping pattern of the route
+   * @return zero when the request is allowed, otherwise the nanoseconds until a token is available
+   */
+  public long tryAcquire(String userId, String route) {
+    Limit limit = routeLimits.getOrDefault(route, defaultLimit);
+    long now = System.nanoTime();
+
+    BucketKey key = new BucketKey(userId, route);
+    AtomicLong bucket = buckets.get(key);
+    if (bucket == null) {
+      if (buckets.size() >= maxBuckets) {
+        trySweep(now);
+        if (buckets.size() >= maxBuckets) {
+          untracked.increment();
+          return 0L;
+        }
+      }
+      bucket = buckets.computeIfAbsent(key, ignored -> new AtomicLong(now));
+    }
+
+    long wait = limit.acquire(bucket, now);
+    if (wait > 0) {
+      rejections.computeIfAbsent(route, this::rejectionCounter).increment();
+    }
+    return wait;
+  }
+
+  /**
+   * Drops the buckets that are full again, which no longer hold any state worth keeping.
+   */
+  @Scheduled(fixedRateString = "${ca.bc.gov.nrs.rate-limit.sweep-interval:1m}")
+  public void sweep() {
+    long now = System.nanoTime();
+    int before = buckets.size();
+    buckets.entrySet().removeIf(entry -> entry.getValue().get() - now <= 0);
+    log.debug("Rate limit sweep dropped {} of {} buckets", before - buckets.size(), before);
+  }
+
+  // Sweeping scans the whole map, so a full map only triggers it once per interval
+  private void trySweep(long now) {
+    long next = nextInlineSweep.get();
+    if (now - next >= 0 && nextInlineSweep.compareAndSet(next, now + INLINE_SWEEP_INTERVAL)) {
+      sweep();
+    }
+  }
+
+  private Counter rejectionCounter(String route) {
+    return Counter
+        .builder("hrs.ratelimit.rejected")
+        .description("Requests rejected by the per-user rate limit")
+        .tag("route", route)
+        .register(registry);
+  }
+
+  private record BucketKey(String userId, String route) {
+
+  }
+
+  /**
+   * Token bucket parameters expressed as the interval between two tokens and the largest lead
+   * the theoretical arrival time can take over the current time.
+   */
+  private static final class Limit {
+
+    private final long interval;
+    private final long capacity;
+
+    private Limit(RateLimit limit) {
+      this.interval = Math.max(1L, limit.getPeriod().toNanos() / Math.max(1, limit.getPermits()));
+      this.capacity = interval * Math.max(1, limit.getBurst());
+    }
+
+    private long acquire(AtomicLong bucket, long now) {
+      while (true) {
+        long arrival = bucket.get();
+        long next = (arrival - now > 0 ? arrival : now) + interval;
+        long wait = next - now - capacity;
+        if (wait > 0) {
+          return wait;
+        }
+        if (bucket.compareAndSet(arrival, next)) {
+          return 0L;
+        }
+      }
+    }
+  }
+}
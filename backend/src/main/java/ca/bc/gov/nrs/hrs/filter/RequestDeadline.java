@@ -0,0 +1,80 @@
+package ca.bc.gov.nrs.hrs.filter;
+
+import io.micrometer.context.ContextRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Holds the deadline of the request being served by the current thread.
+ *
+ * <p>The deadline is set by the {@link RequestDeadlineFilter} and read by anything that waits on
+ * a downstream service. It is registered with the Micrometer {@link ContextRegistry}, so executors
+ * wrapped with a context snapshot (such as the hedged request executor) carry it over to the
+ * threads they run requests on.</p>
+ */
+public final class RequestDeadline {
+
+  /**
+   * Header carrying the remaining budget of a request, in milliseconds.
+   */
+  public static final String HEADER = "X-Request-Deadline";
+
+  private static final String CONTEXT_KEY = "hrs.request.deadline";
+  private static final ThreadLocal<Instant> DEADLINE = new ThreadLocal<>();
+
+  static {
+    ContextRegistry
+        .getInstance()
+        .registerThreadLocalAccessor(CONTEXT_KEY, DEADLINE::get, DEADLINE::set, DEADLINE::remove);
+  }
+
+  private RequestDeadline() {
+  }
+
+  /**
+   * Sets the deadline for the current thread until the returned scope is closed.
+   *
+   * @param deadline the instant after which the request is abandoned
+   * @return the scope that restores the previous deadline when closed
+   */
+  public static Scope start(Instant deadline) {
+    Instant previous = DEADLINE.get();
+    DEADLINE.set(deadline);
+    return () -> {
+      if (previous == null) {
+        DEADLINE.remove();
+      } else {
+        DEADLINE.set(previous);
+      }
+    };
+  }
+
+  /**
+   * Returns the deadline of the current request, if any.
+   *
+   * @return the deadline, or empty outside a request
+   */
+  public static Optional<Instant> current() {
+    return Optional.ofNullable(DEADLINE.get());
+  }
+
+  /**
+   * Returns the time left before the deadline of the current request, if any.
+   *
+   * @return the remaining time, negative once the deadline has passed, or empty outside a request
+   */
+  public static Optional<Duration> remaining() {
+    return current().map(deadline -> Duration.between(Instant.now(), deadline));
+  }
+
+  /**
+   * Scope of a deadline; closing it restores the previous one.
+   */
+  @FunctionalInterface
+  public interface Scope extends AutoCloseable {
+
+    @Override
+    void close();
+  }
+}
@@ -0,0 +1,78 @@
+package ca.bc.gov.nrs.hrs.filter;
+
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration.DeadlineConfiguration;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Servlet filter that gives every request a deadline.
+ *
+ * <p>The budget is read from the {@value RequestDeadline#HEADER} header, in milliseconds, when the
+ * caller sends one; otherwise the configured default applies. Either way it is capped by the
+ * configured maximum. The deadline is available through {@link RequestDeadline} for the duration
+ * of the request and is forwarded to the legacy API, which uses what is left of it as its query
+ * timeout.</p>
+ *
+ * <p>The filter runs right after the observation filter, so the time spent in authentication
+ * counts against the budget.</p>
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+  private final boolean enabled;
+  private final Duration defaultTimeout;
+  private final Duration maxTimeout;
+
+  /**
+   * Creates the filter using the deadline settings from the application configuration.
+   *
+   * @param configuration the application configuration holding the timeouts
+   */
+  public RequestDeadlineFilter(ApplicationConfiguration configuration) {
+    DeadlineConfiguration deadline = configuration.getDeadline();
+    this.enabled = deadline != null && deadline.isEnabled();
+    this.defaultTimeout = enabled ? deadline.getDefaultTimeout() : null;
+    this.maxTimeout = enabled ? deadline.getMaxTimeout() : null;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !enabled;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      FilterChain filterChain
+  ) throws ServletException, IOException {
+
+    Duration budget = budget(request.getHeader(RequestDeadline.HEADER));
+    try (RequestDeadline.Scope ignored = RequestDeadline.start(Instant.now().plus(budget))) {
+      filterChain.doFilter(request, response);
+    }
+  }
+
+  private Duration budget(String header) {
+    long requested = NumberUtils.toLong(header, -1L);
+    if (requested <= 0) {
+      return defaultTimeout;
+    }
+    Duration budget = Duration.ofMillis(requested);
+    return budget.compareTo(maxTimeout) > 0 ? maxTimeout : budget;
+  }
+}
@@ -0,0 +1,40 @@
+package ca.bc.gov.nrs.hrs.health;
+
+import java.time.Instant;
+import lombok.Builder;
+
+/**
+ * Snapshot of the connection pool usage and of the latest sizing decision.
+ *
+ * @param pool            the pool name
+ * @param currentSize     the maximum pool size currently in effect
+ * @param recommendedSize the size recommended by the latest evaluation
+ * @param minSize         the lower bound for the recommended size
+ * @param maxSize         the upper bound for the recommended size
+ * @param autoResize      whether recommendations are applied to the pool
+ * @param active          connections in use right now
+ * @param idle            idle connections right now
+ * @param waiting         threads waiting for a connection right now
+ * @param peakActive      highest number of connections in use during the last window
+ * @param peakWaiting     highest number of waiting threads during the last window
+ * @param waitRatio       fraction of samples of the last window where a thread was waiting
+ * @param evaluatedAt     when the latest evaluation ran, or {@code null} if none did yet
+ */
+@Builder
+public record ConnectionPoolReport(
+    String pool,
+    int currentSize,
+    int recommendedSize,
+    int minSize,
+    int maxSize,
+    boolean autoResize,
+    int active,
+    int idle,
+    int waiting,
+    int peakActive,
+    int peakWaiting,
+    double waitRatio,
+    Instant evaluatedAt
+) {
+
+}
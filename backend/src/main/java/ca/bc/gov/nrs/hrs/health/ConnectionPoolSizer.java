@@ -0,0 +1,187 @@
+package ca.bc.gov.nrs.hrs.health;
+
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration.ConnectionPoolConfiguration;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recommends, and optionally applies, a maximum size for the connection pool.
+ *
+ * <p>The pool is sampled at a short interval, recording how many connections are in use and
+ * whether threads are queueing for one. At the end of each evaluation window the recommendation
+ * is updated:</p>
+ *
+ * <ul>
+ *   <li>if threads waited in at least {@code growThreshold} of the samples while every connection
+ *       was in use, the pool grows by the peak number of waiting threads;</li>
+ *   <li>if nobody waited and the peak usage stayed below the current size minus one, the pool
+ *       shrinks to the peak plus one spare connection;</li>
+ *   <li>otherwise the size is kept.</li>
+ * </ul>
+ *
+ * <p>The result is always kept within the configured bounds and never below
+ * {@code minimumIdle}. With {@code autoResize} disabled the recommendation is only logged,
+ * exported as {@code hikaricp.connections.recommended} and shown by the {@code connectionpool}
+ * endpoint; enabled, it is applied through Hikari's runtime configuration bean.</p>
+ */
+@Slf4j
+@Component
+public class ConnectionPoolSizer {
+
+  private static final int HEADROOM = 1;
+
+  private final HikariDataSource dataSource;
+  private final ConnectionPoolConfiguration configuration;
+  private final AtomicInteger peakActive = new AtomicInteger();
+  private final AtomicInteger peakWaiting = new AtomicInteger();
+  private final AtomicLong samples = new AtomicLong();
+  private final AtomicLong waitingSamples = new AtomicLong();
+  private volatile ConnectionPoolReport lastEvaluation;
+
+  /**
+   * Creates the sizer for the application data source.
+   *
+   * @param dataSource    the application data source, expected to be a Hikari pool
+   * @param configuration the application configuration holding the sizing bounds
+   * @param registry      the meter registry used to publish the recommended size
+   * @throws SQLException when the data source is not backed by Hikari
+   */
+  public ConnectionPoolSizer(
+      DataSource dataSource,
+      ApplicationConfiguration configuration,
+      MeterRegistry registry
+  ) throws SQLException {
+    this.dataSource = dataSource.unwrap(HikariDataSource.class);
+    this.configuration = configuration.getConnectionPool() != null
+        ? configuration.getConnectionPool()
+        : new ConnectionPoolConfiguration();
+
+    Gauge
+        .builder("hikaricp.connections.recommended", this, sizer -> sizer.recommendedSize())
+        .description("Maximum pool size recommended from the observed wait and concurrency")
+        .tag("pool", String.valueOf(this.dataSource.getPoolName()))
+        .register(registry);
+  }
+
+  /**
+   * Records the current pool usage.
+   */
+  @Scheduled(fixedRateString = "${ca.bc.gov.nrs.connection-pool.sample-interval:1s}")
+  public void sample() {
+    HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+    if (pool == null) {
+      return;
+    }
+    int waiting = pool.getThreadsAwaitingConnection();
+    peakActive.accumulateAndGet(pool.getActiveConnections(), Math::max);
+    peakWaiting.accumulateAndGet(waiting, Math::max);
+    samples.incrementAndGet();
+    if (waiting > 0) {
+      waitingSamples.incrementAndGet();
+    }
+  }
+
+  /**
+   * Evaluates the samples of the last window and updates the recommendation.
+   */
+  @Scheduled(
+      fixedRateString = "${ca.bc.gov.nrs.connection-pool.evaluation-interval:5m}",
+      initialDelayString = "${ca.bc.gov.nrs.connection-pool.evaluation-interval:5m}"
+  )
+  public void evaluate() {
+    long total = samples.getAndSet(0);
+    long waited = waitingSamples.getAndSet(0);
+    int peak = peakActive.getAndSet(0);
+    int queue = peakWaiting.getAndSet(0);
+    if (total == 0) {
+      return;
+    }
+
+    int current = dataSource.getMaximumPoolSize();
+    double waitRatio = (double) waited / total;
+    int target = current;
+    if (waitRatio >= configuration.getGrowThreshold() && peak >= current) {
+      target = current + Math.max(1, queue);
+    } else if (waited == 0 && peak + HEADROOM < current) {
+      target = peak + HEADROOM;
+    }
+    target = Math.max(lowerBound(), Math.min(configuration.getMaxSize(), target));
+
+    lastEvaluation = snapshot(current, target, peak, queue, waitRatio, Instant.now());
+
+    if (target == current) {
+      return;
+    }
+    if (configuration.isAutoResize()) {
+      dataSource.getHikariConfigMXBean().setMaximumPoolSize(target);
+      log.info("Resized pool {} from {} to {} connections (peak {} in use, {} waiting)",
+          dataSource.getPoolName(), current, target, peak, queue);
+    } else {
+      log.info("Pool {} would be better sized at {} connections instead of {} "
+              + "(peak {} in use, {} waiting)",
+          dataSource.getPoolName(), target, current, peak, queue);
+    }
+  }
+
+  /**
+   * Builds a report with the live pool counters and the latest evaluation.
+   *
+   * @return the connection pool report
+   */
+  public ConnectionPoolReport report() {
+    ConnectionPoolReport evaluation = lastEvaluation;
+    return evaluation == null
+        ? snapshot(dataSource.getMaximumPoolSize(), dataSource.getMaximumPoolSize(),
+            peakActive.get(), peakWaiting.get(), 0d, null)
+        : snapshot(dataSource.getMaximumPoolSize(), evaluation.recommendedSize(),
+            evaluation.peakActive(), evaluation.peakWaiting(), evaluation.waitRatio(),
+            evaluation.evaluatedAt());
+  }
+
+  private int recommendedSize() {
+    ConnectionPoolReport evaluation = lastEvaluation;
+    return evaluation == null ? dataSource.getMaximumPoolSize() : evaluation.recommendedSize();
+  }
+
+  private int lowerBound() {
+    return Math.max(Math.max(1, dataSource.getMinimumIdle()), configuration.getMinSize());
+  }
+
+  private ConnectionPoolReport snapshot(
+      int current,
+      int recommended,
+      int peak,
+      int queue,
+      double waitRatio,
+      Instant evaluatedAt
+  ) {
+    HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+    return ConnectionPoolReport
+        .builder()
+        .pool(dataSource.getPoolName())
+        .currentSize(current)
+        .recommendedSize(recommended)
+        .minSize(lowerBound())
+        .maxSize(configuration.getMaxSize())
+        .autoResize(configuration.isAutoResize())
+        .active(pool != null ? pool.getActiveConnections() : 0)
+        .idle(pool != null ? pool.getIdleConnections() : 0)
+        .waiting(pool != null ? pool.getThreadsAwaitingConnection() : 0)
+        .peakActive(peak)
+        .peakWaiting(queue)
+        .waitRatio(waitRatio)
+        .evaluatedAt(evaluatedAt)
+        .build();
+  }
+}
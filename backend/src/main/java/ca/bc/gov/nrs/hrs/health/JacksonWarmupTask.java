@@ -0,0 +1,39 @@
+package ca.bc.gov.nrs.hrs.health;
+
+import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the Jackson serializers and deserializers for the most common payloads.
+ *
+ * <p>Jackson introspects a type the first time it is written or read, which is noticeable on the
+ * first request of a cold pod.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class JacksonWarmupTask implements WarmupTask {
+
+  private final ObjectMapper objectMapper;
+
+  @Override
+  public String name() {
+    return "jackson";
+  }
+
+  @Override
+  public void warmUp() throws IOException {
+    byte[] codes = objectMapper.writeValueAsBytes(
+        List.of(new CodeDescriptionDto("DCK", "Chilliwack"))
+    );
+    objectMapper.readValue(codes, new TypeReference<List<CodeDescriptionDto>>() {
+    });
+    objectMapper.writeValueAsBytes(ProblemDetail.forStatus(HttpStatus.NOT_FOUND));
+  }
+}
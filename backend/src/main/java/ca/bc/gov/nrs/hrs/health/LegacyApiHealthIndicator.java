@@ -0,0 +1,52 @@
+package ca.bc.gov.nrs.hrs.health;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports the state of the circuit breaker guarding the legacy API.
+ *
+ * <p>Uses the breaker's in-memory state instead of calling the legacy API. An open or half-open
+ * breaker is reported as {@link #DEGRADED} rather than down: the provider serves fallback data in
+ * that case, and taking every replica out of rotation because legacy is unavailable would turn a
+ * partial outage into a full one. {@code DEGRADED} maps to HTTP 200.</p>
+ */
+@Component
+public class LegacyApiHealthIndicator implements HealthIndicator {
+
+  /**
+   * The service works, but with reduced functionality.
+   */
+  public static final Status DEGRADED = new Status("DEGRADED");
+
+  private final CircuitBreaker breaker;
+
+  /**
+   * Creates the indicator for the breaker used by the legacy API provider.
+   *
+   * @param registry the circuit breaker registry
+   */
+  public LegacyApiHealthIndicator(CircuitBreakerRegistry registry) {
+    this.breaker = registry.circuitBreaker("breaker");
+  }
+
+  @Override
+  public Health health() {
+    CircuitBreaker.State state = breaker.getState();
+    CircuitBreaker.Metrics metrics = breaker.getMetrics();
+    Health.Builder builder = switch (state) {
+      case CLOSED, DISABLED, METRICS_ONLY -> Health.up();
+      default -> Health.status(DEGRADED);
+    };
+
+    return builder
+        .withDetail("circuitBreaker", state.name())
+        .withDetail("failureRate", metrics.getFailureRate())
+        .withDetail("bufferedCalls", metrics.getNumberOfBufferedCalls())
+        .build();
+  }
+}
@@ -0,0 +1,40 @@
+package ca.bc.gov.nrs.hrs.health;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Makes a synthetic round trip to the legacy API.
+ *
+ * <p>Calls the anonymous legacy liveness endpoint through the same {@link RestClient} used for
+ * business calls, which resolves the host, opens the first connection and initializes the client
+ * request pipeline. Code lists are not fetched here because the legacy API only serves them to
+ * an authenticated user.</p>
+ */
+@Slf4j
+@Component
+public class LegacyApiWarmupTask implements WarmupTask {
+
+  private final RestClient restClient;
+
+  LegacyApiWarmupTask(@Qualifier("legacyApi") RestClient legacyApi) {
+    this.restClient = legacyApi;
+  }
+
+  @Override
+  public String name() {
+    return "legacy-api";
+  }
+
+  @Override
+  public void warmUp() {
+    restClient
+        .get()
+        .uri("/health/liveness")
+        .retrieve()
+        .toBodilessEntity();
+    log.debug("Legacy API reached");
+  }
+}
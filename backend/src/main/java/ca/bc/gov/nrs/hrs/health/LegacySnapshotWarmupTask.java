@@ -0,0 +1,35 @@
+package ca.bc.gov.nrs.hrs.health;
+
+import ca.bc.gov.nrs.hrs.cache.CodesResponseCache;
+import ca.bc.gov.nrs.hrs.provider.LegacyApiConstants;
+import ca.bc.gov.nrs.hrs.service.LegacySnapshotService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the last known responses of the legacy API saved by other pods.
+ *
+ * <p>The snapshots are kept in memory for the circuit breaker fallbacks, and the district code
+ * list is served from its snapshot until the response cache first expires. A new pod can then
+ * render the landing page even when the legacy API is unavailable.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class LegacySnapshotWarmupTask implements WarmupTask {
+
+  private final LegacySnapshotService snapshotService;
+  private final CodesResponseCache responseCache;
+
+  @Override
+  public String name() {
+    return "legacy-snapshots";
+  }
+
+  @Override
+  public void warmUp() {
+    snapshotService.load();
+    snapshotService
+        .find(LegacyApiConstants.DISTRICTS_SNAPSHOT, LegacyApiConstants.DISTRICT_LIST)
+        .ifPresent(responseCache::seedDistricts);
+  }
+}
@@ -0,0 +1,39 @@
+package ca.bc.gov.nrs.hrs.health;
+
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the outcome of the startup warm-up.
+ *
+ * <p>Written once by {@link WarmupRunner} and read by anything that needs to know whether the
+ * service finished warming up, without triggering any work itself.</p>
+ */
+@Component
+public class WarmupState {
+
+  private volatile Duration duration;
+
+  /**
+   * Whether the warm-up has finished, successfully or not.
+   *
+   * @return {@code true} once the warm-up is over
+   */
+  public boolean isComplete() {
+    return duration != null;
+  }
+
+  /**
+   * How long the warm-up took.
+   *
+   * @return the warm-up duration, or empty while it is still running
+   */
+  public Optional<Duration> getDuration() {
+    return Optional.ofNullable(duration);
+  }
+
+  void complete(Duration duration) {
+    this.duration = duration;
+  }
+}
@@ -0,0 +1,25 @@
+package ca.bc.gov.nrs.hrs.health;
+
+/**
+ * A unit of work executed once at startup, before the service reports itself ready.
+ *
+ * <p>Tasks prime what the first requests would otherwise pay for, such as database connections,
+ * remote signing keys or serializers. Tasks run concurrently, and a task that fails or runs out of
+ * time is logged without preventing the service from becoming ready.</p>
+ */
+public interface WarmupTask {
+
+  /**
+   * Name of the task, used in logs and as the {@code task} tag of the warm-up metrics.
+   *
+   * @return the task name
+   */
+  String name();
+
+  /**
+   * Executes the warm-up work.
+   *
+   * @throws Exception when the warm-up could not be completed
+   */
+  void warmUp() throws Exception;
+}
@@ -0,0 +1,75 @@
+package ca.bc.gov.nrs.hrs.provider;
+
+import ca.bc.gov.nrs.hrs.exception.DeadlineExceededException;
+import ca.bc.gov.nrs.hrs.filter.RequestDeadline;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInitializer;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * Client request initializer that forwards what is left of the current request's deadline.
+ *
+ * <p>The remaining budget is sent in milliseconds in the {@value RequestDeadline#HEADER} header,
+ * so the legacy API can stop its database work when the backend is no longer waiting for it. A
+ * call is not sent at all when the deadline has already passed.</p>
+ *
+ * <p>As an interceptor, it turns a call cut short by the {@link DeadlineRequestFactory} timeout
+ * into a {@link DeadlineExceededException}, the same as a hedged call abandoned at the
+ * deadline.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class DeadlineForwarder implements ClientHttpRequestInitializer,
+    ClientHttpRequestInterceptor {
+
+  private final MeterRegistry registry;
+
+  @Override
+  public void initialize(@NonNull ClientHttpRequest request) {
+    Optional<Duration> remaining = RequestDeadline.remaining();
+    if (remaining.isEmpty()) {
+      return;
+    }
+    if (remaining.get().isNegative() || remaining.get().isZero()) {
+      throw new DeadlineExceededException(request.getURI().getPath());
+    }
+    request
+        .getHeaders()
+        .set(RequestDeadline.HEADER, String.valueOf(Math.max(1L, remaining.get().toMillis())));
+  }
+
+  @Override
+  @NonNull
+  public ClientHttpResponse intercept(
+      @NonNull HttpRequest request,
+      @NonNull byte[] body,
+      @NonNull ClientHttpRequestExecution execution
+  ) throws IOException {
+    try {
+      return execution.execute(request, body);
+    } catch (HttpTimeoutException timeout) {
+      if (!RequestDeadline.remaining().map(left -> !left.isPositive()).orElse(false)) {
+        throw timeout;
+      }
+      Counter
+          .builder("legacy.api.deadline.exceeded")
+          .description("Requests to the legacy API abandoned at the request deadline")
+          .tag("operation", request.getURI().getPath())
+          .register(registry)
+          .increment();
+      throw new DeadlineExceededException(request.getURI().getPath());
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package ca.bc.gov.nrs.hrs.provider;
+
+import ca.bc.gov.nrs.hrs.filter.RequestDeadline;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.NonNull;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+/**
+ * Request factory that bounds every call by what is left of the current request's deadline.
+ *
+ * <p>Calls made while a {@link RequestDeadline} is set get a JDK client timeout equal to the
+ * remaining budget, which covers the whole exchange, body included. Every legacy call therefore
+ * stops waiting at the deadline, whether or not it goes through the
+ * {@link HedgedRequestExecutor}; the {@link DeadlineForwarder} reports it as a deadline
+ * exceeded. Calls made outside a request have no timeout.</p>
+ */
+public class DeadlineRequestFactory implements ClientHttpRequestFactory {
+
+  private static final Duration MIN_TIMEOUT = Duration.ofMillis(1);
+
+  private final HttpClient httpClient;
+  private final JdkClientHttpRequestFactory unbounded;
+
+  /**
+   * Creates the factory on top of a shared JDK HTTP client.
+   *
+   * @param httpClient the client that sends every request
+   */
+  public DeadlineRequestFactory(HttpClient httpClient) {
+    this.httpClient = httpClient;
+    this.unbounded = new JdkClientHttpRequestFactory(httpClient);
+  }
+
+  @Override
+  @NonNull
+  public ClientHttpRequest createRequest(@NonNull URI uri, @NonNull HttpMethod httpMethod)
+      throws IOException {
+    Optional<Duration> remaining = RequestDeadline.remaining();
+    if (remaining.isEmpty()) {
+      return unbounded.createRequest(uri, httpMethod);
+    }
+    // The timeout is per request on the JDK factory, which only wraps the shared client
+    JdkClientHttpRequestFactory bounded = new JdkClientHttpRequestFactory(httpClient);
+    bounded.setReadTimeout(
+        remaining.get().compareTo(MIN_TIMEOUT) < 0 ? MIN_TIMEOUT : remaining.get()
+    );
+    return bounded.createRequest(uri, httpMethod);
+  }
+}
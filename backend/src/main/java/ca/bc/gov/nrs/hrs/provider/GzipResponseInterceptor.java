@@ -0,0 +1,101 @@
+package ca.bc.gov.nrs.hrs.provider;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.zip.GZIPInputStream;
+import lombok.NonNull;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * Client interceptor that asks for gzip encoded responses and decodes them.
+ *
+ * <p>The JDK HTTP client does not negotiate compression on its own. This interceptor adds
+ * {@code Accept-Encoding: gzip} to outgoing requests and, when the response comes back encoded,
+ * exposes a decompressed body without the {@code Content-Encoding} and {@code Content-Length}
+ * headers, so message converters see plain JSON.</p>
+ */
+@Component
+public class GzipResponseInterceptor implements ClientHttpRequestInterceptor {
+
+  private static final String GZIP = "gzip";
+
+  @Override
+  @NonNull
+  public ClientHttpResponse intercept(
+      @NonNull HttpRequest request,
+      @NonNull byte[] body,
+      @NonNull ClientHttpRequestExecution execution
+  ) throws IOException {
+    request.getHeaders().set(HttpHeaders.ACCEPT_ENCODING, GZIP);
+    ClientHttpResponse response = execution.execute(request, body);
+    if (GZIP.equalsIgnoreCase(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING))) {
+      return new GzipClientHttpResponse(response);
+    }
+    return response;
+  }
+
+  /**
+   * Response whose body is decompressed on read.
+   */
+  private static final class GzipClientHttpResponse implements ClientHttpResponse {
+
+    private final ClientHttpResponse delegate;
+    private final HttpHeaders headers;
+    private InputStream body;
+
+    private GzipClientHttpResponse(ClientHttpResponse delegate) {
+      this.delegate = delegate;
+      this.headers = new HttpHeaders();
+      this.headers.putAll(delegate.getHeaders());
+      this.headers.remove(HttpHeaders.CONTENT_ENCODING);
+      this.headers.remove(HttpHeaders.CONTENT_LENGTH);
+    }
+
+    @Override
+    @NonNull
+    public HttpStatusCode getStatusCode() throws IOException {
+      return delegate.getStatusCode();
+    }
+
+    @Override
+    @NonNull
+    public String getStatusText() throws IOException {
+      return delegate.getStatusText();
+    }
+
+    @Override
+    @NonNull
+    public HttpHeaders getHeaders() {
+      return headers;
+    }
+
+    @Override
+    @NonNull
+    public InputStream getBody() throws IOException {
+      if (body == null) {
+        // Responses without content (HEAD, 204) may still carry the header
+        PushbackInputStream source = new PushbackInputStream(delegate.getBody());
+        int first = source.read();
+        if (first == -1) {
+          body = InputStream.nullInputStream();
+        } else {
+          source.unread(first);
+          body = new GZIPInputStream(source);
+        }
+      }
+      return body;
+    }
+
+    @Override
+    public void close() {
+      delegate.close();
+    }
+  }
+}
@@ -0,0 +1,330 @@
+package ca.bc.gov.nrs.hrs.provider;
+
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration.HedgingConfiguration;
+import ca.bc.gov.nrs.hrs.exception.DeadlineExceededException;
+import ca.bc.gov.nrs.hrs.filter.RequestDeadline;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Executes idempotent requests with optional hedging.
+ *
+ * <p>When hedging is enabled, the request is started on a virtual thread and the caller waits
+ * for it up to the configured percentile of the recent latency of that operation. If no answer
+ * arrived by then, a second identical request is issued and whichever attempt succeeds first is
+ * returned; the other one is cancelled. The number of hedges is capped by a budget that grows by
+ * {@code maxRatio} tokens per request and costs one token per hedge, so hedging never adds more
+ * than that fraction of extra load on the legacy service.</p>
+ *
+ * <p>Requests only move to the attempt threads when a hedge can actually fire: hedging is enabled,
+ * the latency window is warm, a token is available and the hedge delay ends before the current
+ * request's deadline (see {@link RequestDeadline}). Otherwise they run on the caller's thread,
+ * bounded by the deadline timeout of the legacy client. When hedged, the caller never waits past
+ * the deadline: the attempts are cancelled, which aborts the HTTP exchange, and a
+ * {@link DeadlineExceededException} is thrown.</p>
+ *
+ * <p>Security, observation and deadline context are propagated to the attempt threads, so the
+ * JWT, B3 and deadline forwarders behave the same as for a direct call. Only use this for
+ * idempotent requests.</p>
+ */
+@Slf4j
+@Component
+public class HedgedRequestExecutor {
+
+  private static final long TOKEN = 1_000L;
+  private static final long MAX_BUDGET = 10 * TOKEN;
+
+  private final HedgingConfiguration configuration;
+  private final MeterRegistry registry;
+  private final ExecutorService executor;
+  private final Map<String, Operation> operations = new ConcurrentHashMap<>();
+  private final AtomicLong budget = new AtomicLong();
+  private final long deposit;
+
+  /**
+   * Creates the executor using the hedging settings from the application configuration.
+   *
+   * @param configuration the application configuration
+   * @param registry      the meter registry used for hedge metrics
+   */
+  public HedgedRequestExecutor(ApplicationConfiguration configuration, MeterRegistry registry) {
+    this.configuration = configuration.getHedging() != null
+        ? configuration.getHedging()
+        : new HedgingConfiguration();
+    this.registry = registry;
+    this.deposit = Math.round(this.configuration.getMaxRatio() * TOKEN);
+    this.executor = ContextExecutorService.wrap(
+        Executors.newVirtualThreadPerTaskExecutor(),
+        ContextSnapshotFactory.builder().build()
+    );
+  }
+
+  /**
+   * Executes the request, hedging it if the first attempt is slower than usual.
+   *
+   * @param operation the name of the operation, used to track latency and tag metrics
+   * @param request   the idempotent request to execute
+   * @param <T>       the response type
+   * @return the response of the first attempt to succeed
+   */
+  public <T> T execute(String operation, Supplier<T> request) {
+    if (!configuration.isEnabled()) {
+      return request.get();
+    }
+
+    Operation stats = operations.computeIfAbsent(operation, this::register);
+    budget.accumulateAndGet(deposit, (current, value) -> Math.min(MAX_BUDGET, current + value));
+
+    Instant deadline = RequestDeadline.current().orElse(null);
+    long delay = stats.hedgeDelay();
+    if (delay <= 0 || delay >= remainingNanos(deadline) || budget.get() < TOKEN) {
+      long start = System.nanoTime();
+      T value = request.get();
+      stats.record(System.nanoTime() - start);
+      return value;
+    }
+
+    CompletableFuture<T> result = new CompletableFuture<>();
+    AtomicInteger pending = new AtomicInteger(1);
+    Attempt primary = submit(stats, request, result, pending, false);
+    Attempt hedge = null;
+
+    try {
+      try {
+        return result.get(delay, TimeUnit.NANOSECONDS);
+      } catch (TimeoutException slow) {
+        if (tryWithdraw()) {
+          pending.incrementAndGet();
+          stats.issued.increment();
+          log.debug("Hedging {} after {} ms", operation, TimeUnit.NANOSECONDS.toMillis(delay));
+          hedge = submit(stats, request, result, pending, true);
+        }
+      }
+      return await(operation, result, deadline);
+    } catch (ExecutionException e) {
+      throw unwrap(e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for " + operation, e);
+    } finally {
+      // A primary still running is slower than the time it ran; recording it keeps the window
+      // from only seeing the attempts fast enough to win
+      primary.abandon(true);
+      if (hedge != null) {
+        hedge.abandon(false);
+      }
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private <T> T await(String operation, CompletableFuture<T> result, Instant deadline)
+      throws ExecutionException, InterruptedException {
+    if (deadline == null) {
+      return result.get();
+    }
+    try {
+      return result.get(Math.max(0L, remainingNanos(deadline)), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException expired) {
+      Counter
+          .builder("legacy.api.deadline.exceeded")
+          .description("Requests to the legacy API abandoned at the request deadline")
+          .tag("operation", operation)
+          .register(registry)
+          .increment();
+      log.debug("Deadline exceeded while waiting for {}", operation);
+      throw new DeadlineExceededException(operation);
+    }
+  }
+
+  private static long remainingNanos(Instant deadline) {
+    if (deadline == null) {
+      return Long.MAX_VALUE;
+    }
+    return Duration.between(Instant.now(), deadline).toNanos();
+  }
+
+  private static RuntimeException unwrap(ExecutionException e) {
+    if (e.getCause() instanceof RuntimeException runtimeException) {
+      return runtimeException;
+    }
+    return new IllegalStateException(e.getCause());
+  }
+
+  private <T> Attempt submit(
+      Operation stats,
+      Supplier<T> request,
+      CompletableFuture<T> result,
+      AtomicInteger pending,
+      boolean hedge
+  ) {
+    Attempt attempt = new Attempt(stats, System.nanoTime());
+    attempt.future = executor.submit(() -> {
+      try {
+        T value = request.get();
+        attempt.finish(true);
+        if (result.complete(value) && hedge) {
+          stats.won.increment();
+        }
+      } catch (RuntimeException e) {
+        attempt.finish(false);
+        if (pending.decrementAndGet() == 0) {
+          result.completeExceptionally(e);
+        }
+      }
+    });
+    return attempt;
+  }
+
+  private boolean tryWithdraw() {
+    long current;
+    do {
+      current = budget.get();
+      if (current < TOKEN) {
+        return false;
+      }
+    } while (!budget.compareAndSet(current, current - TOKEN));
+    return true;
+  }
+
+  private Operation register(String operation) {
+    Operation stats = new Operation(
+        configuration.getWindowSize(),
+        configuration.getMinSamples(),
+        configuration.getPercentile(),
+        configuration.getMinDelay() != null ? configuration.getMinDelay().toNanos() : 0L,
+        Counter
+            .builder("legacy.api.hedge.issued")
+            .description("Hedged requests sent to the legacy API")
+            .tag("operation", operation)
+            .register(registry),
+        Counter
+            .builder("legacy.api.hedge.won")
+            .description("Hedged requests that answered before the original request")
+            .tag("operation", operation)
+            .register(registry)
+    );
+    Gauge
+        .builder("legacy.api.hedge.delay", stats, value -> value.hedgeDelay() / 1_000_000d)
+        .description("Current hedge delay in milliseconds")
+        .tag("operation", operation)
+        .register(registry);
+    return stats;
+  }
+
+  /**
+   * A single attempt of a request, recording its latency once, whether it finished or was
+   * abandoned.
+   */
+  private static final class Attempt {
+
+    private final Operation stats;
+    private final long start;
+    private final AtomicBoolean finished = new AtomicBoolean();
+    private volatile Future<?> future;
+
+    private Attempt(Operation stats, long start) {
+      this.stats = stats;
+      this.start = start;
+    }
+
+    private void finish(boolean succeeded) {
+      if (finished.compareAndSet(false, true) && succeeded) {
+        stats.record(System.nanoTime() - start);
+      }
+    }
+
+    private void abandon(boolean record) {
+      if (finished.compareAndSet(false, true) && record) {
+        stats.record(System.nanoTime() - start);
+      }
+      future.cancel(true);
+    }
+  }
+
+  /**
+   * Latency window and metrics for a single operation.
+   *
+   * <p>Latencies are kept in a fixed-size ring buffer; the hedge delay is recomputed every few
+   * samples rather than on each request, so reading it is a single volatile read.</p>
+   */
+  private static final class Operation {
+
+    private static final int RECOMPUTE_EVERY = 8;
+
+    private final AtomicLongArray samples;
+    private final AtomicLong count = new AtomicLong();
+    private final int minSamples;
+    private final double percentile;
+    private final long minDelay;
+    private final Counter issued;
+    private final Counter won;
+    private volatile long delay = -1;
+
+    private Operation(
+        int windowSize,
+        int minSamples,
+        double percentile,
+        long minDelay,
+        Counter issued,
+        Counter won
+    ) {
+      this.samples = new AtomicLongArray(Math.max(1, windowSize));
+      this.minSamples = Math.max(1, Math.min(minSamples, samples.length()));
+      this.percentile = percentile;
+      this.minDelay = minDelay;
+      this.issued = issued;
+      this.won = won;
+    }
+
+    private long hedgeDelay() {
+      return delay;
+    }
+
+    private void record(long nanos) {
+      long index = count.getAndIncrement();
+      samples.set((int) (index % samples.length()), nanos);
+      long recorded = index + 1;
+      if (recorded >= minSamples && (recorded % RECOMPUTE_EVERY == 0 || delay < 0)) {
+        recompute((int) Math.min(recorded, samples.length()));
+      }
+    }
+
+    private void recompute(int size) {
+      long[] sorted = new long[size];
+      for (int i = 0; i < size; i++) {
+        sorted[i] = samples.get(i);
+      }
+      Arrays.sort(sorted);
+      int rank = (int) Math.ceil(percentile * size) - 1;
+      delay = Math.max(minDelay, sorted[Math.clamp(rank, 0, size - 1)]);
+    }
+  }
+}
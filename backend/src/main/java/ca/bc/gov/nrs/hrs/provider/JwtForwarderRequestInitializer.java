@@ -25,8 +25,10 @@ public class JwtForwarderRequestInitializer implements ClientHttpRequestInitiali
 
   @Override
   public void initialize(ClientHttpRequest request) {
-    request.getHeaders()
-        .add(HttpHeaders.AUTHORIZATION, String.format("Bearer %s", getToken()));
+    String token = getToken();
+    if (token != null) {
+      request.getHeaders().add(HttpHeaders.AUTHORIZATION, String.format("Bearer %s", token));
+    }
   }
 
   private String getToken() {
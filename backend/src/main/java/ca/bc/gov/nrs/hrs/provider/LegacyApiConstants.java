@@ -3,6 +3,7 @@ package ca.bc.gov.nrs.hrs.provider;
 import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
 import ca.bc.gov.nrs.hrs.dto.search.MyForestClientSearchResultDto;
 import ca.bc.gov.nrs.hrs.dto.search.ReportingUnitSearchResultDto;
+import com.fasterxml.jackson.core.type.TypeReference;
 import java.util.List;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -51,4 +52,9 @@ public final class LegacyApiConstants {
   public static final List<MyForestClientSearchResultDto> MY_CLIENTS_LIST = List.of();
   public static final String CONTENT_CONST = "content";
   public static final String PAGE_CONST = "page";
+
+  public static final String DISTRICTS_SNAPSHOT = "districts";
+  public static final TypeReference<List<CodeDescriptionDto>> DISTRICT_LIST =
+      new TypeReference<>() {
+      };
 }
@@ -4,6 +4,7 @@ import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
 import ca.bc.gov.nrs.hrs.dto.search.MyForestClientSearchResultDto;
 import ca.bc.gov.nrs.hrs.dto.search.ReportingUnitSearchParametersDto;
 import ca.bc.gov.nrs.hrs.dto.search.ReportingUnitSearchResultDto;
+import ca.bc.gov.nrs.hrs.service.LegacySnapshotService;
 import ca.bc.gov.nrs.hrs.util.UriUtils;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -30,8 +31,15 @@ import org.springframework.web.client.RestClient;
  * This component centralizes calls to the legacy API for code lists and
  * search endpoints. It applies resilience patterns (circuit breaker)
  * and contains fallback implementations when the legacy system is
- * unavailable. Static fallback data has been centralized in
- * {@link LegacyApiConstants}.
+ * unavailable. Idempotent GETs go through the
+ * {@link HedgedRequestExecutor} to trim tail latency.
+ * </p>
+ *
+ * <p>
+ * Successful responses of cacheable calls are saved by the
+ * {@link LegacySnapshotService}, and the fallbacks serve the last saved
+ * response. The static data centralized in {@link LegacyApiConstants} is
+ * only used when no response was ever saved.
  * </p>
  */
 @Slf4j
@@ -41,13 +49,19 @@ public class LegacyApiProvider {
 
   public static final String FALLBACK_ERROR = "Error occurred while fetching data from {}: {}";
   private final RestClient restClient;
+  private final HedgedRequestExecutor hedgedExecutor;
+  private final LegacySnapshotService snapshotService;
 
   private static final String PROVIDER = "Legacy API";
 
   LegacyApiProvider(
-      @Qualifier("legacyApi") RestClient legacyApi
+      @Qualifier("legacyApi") RestClient legacyApi,
+      HedgedRequestExecutor hedgedExecutor,
+      LegacySnapshotService snapshotService
   ) {
     this.restClient = legacyApi;
+    this.hedgedExecutor = hedgedExecutor;
+    this.snapshotService = snapshotService;
   }
 
   /**
@@ -60,19 +74,57 @@ public class LegacyApiProvider {
   @CircuitBreaker(name = "breaker", fallbackMethod = "fallbackDistricts")
   @NewSpan
   public List<CodeDescriptionDto> getDistrictCodes() {
+    return requestDistrictCodes();
+  }
+
+  /**
+   * Retrieve district code list from the legacy API, without falling back.
+   *
+   * <p>
+   * Used by callers that keep their own last good response, such as the
+   * response cache, so a failure is not mistaken for a fresh list. The call
+   * still counts towards the circuit breaker and fails fast while it is open.
+   * </p>
+   *
+   * @return the district codes
+   */
+  @CircuitBreaker(name = "breaker")
+  @NewSpan
+  public List<CodeDescriptionDto> fetchDistrictCodes() {
+    return requestDistrictCodes();
+  }
+
+  /**
+   * The last known district code list, as served by the fallback of
+   * {@link #getDistrictCodes()}.
+   *
+   * @return the last saved response, or the static list when none was saved
+   */
+  public List<CodeDescriptionDto> lastKnownDistrictCodes() {
+    return snapshotService
+        .find(LegacyApiConstants.DISTRICTS_SNAPSHOT, LegacyApiConstants.DISTRICT_LIST)
+        .orElse(LegacyApiConstants.DEFAULT_DISTRICTS);
+  }
+
+  private List<CodeDescriptionDto> requestDistrictCodes() {
     log.info("Starting {} request to /codes/districts", PROVIDER);
-    return restClient
+    List<CodeDescriptionDto> districts = hedgedExecutor.execute("districts", () -> restClient
         .get()
         .uri("/api/codes/districts")
         .retrieve()
-        .body(new ParameterizedTypeReference<>() {
-        });
+        .body(new ParameterizedTypeReference<List<CodeDescriptionDto>>() {
+        })
+    );
+    if (districts != null && !districts.isEmpty()) {
+      snapshotService.save(LegacyApiConstants.DISTRICTS_SNAPSHOT, districts);
+    }
+    return districts;
   }
 
   @SuppressWarnings("unused")
   private List<CodeDescriptionDto> fallbackDistricts(Throwable throwable) {
     logFallbackError(throwable);
-    return LegacyApiConstants.DEFAULT_DISTRICTS;
+    return lastKnownDistrictCodes();
   }
 
   // Central helper to log fallback errors which avoids repeated log.error calls
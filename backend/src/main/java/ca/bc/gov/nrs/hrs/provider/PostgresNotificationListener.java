@@ -0,0 +1,182 @@
+package ca.bc.gov.nrs.hrs.provider;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Receives Postgres {@code NOTIFY} messages and hands them to the registered handlers.
+ *
+ * <p>{@code LISTEN} only works on a session that stays open, so this uses its own connection,
+ * outside the Hikari pool, polled by a single daemon thread. Keeping it out of the pool means the
+ * pool size is not reduced by one for good, and a long poll never holds a pooled connection.</p>
+ *
+ * <p>Notifications sent while the connection is down are lost. When the connection is opened
+ * again, every handler is told through {@link Handler#onReconnect()} so it can catch up.</p>
+ */
+@Slf4j
+@Component
+public class PostgresNotificationListener implements SmartLifecycle {
+
+  private static final Duration POLL_TIMEOUT = Duration.ofSeconds(10);
+  private static final Duration RECONNECT_DELAY = Duration.ofSeconds(5);
+
+  private final JdbcConnectionDetails connectionDetails;
+  private final Map<String, List<Handler>> handlers = new ConcurrentHashMap<>();
+  private final Counter reconnects;
+  private volatile Thread worker;
+
+  /**
+   * Creates the listener.
+   *
+   * @param connectionDetails the details used to open the dedicated connection
+   * @param registry          the meter registry used to count reconnections
+   */
+  public PostgresNotificationListener(
+      JdbcConnectionDetails connectionDetails,
+      MeterRegistry registry
+  ) {
+    this.connectionDetails = connectionDetails;
+    this.reconnects = Counter
+        .builder("hrs.db.notifications.reconnects")
+        .description("Times the notification connection to the database was opened again")
+        .register(registry);
+  }
+
+  /**
+   * Registers a handler for a channel. Channels registered after the listener started are picked
+   * up on the next poll.
+   *
+   * @param channel the channel to listen to, a plain SQL identifier
+   * @param handler the handler receiving the payloads of the channel
+   */
+  public void listen(String channel, Handler handler) {
+    handlers.computeIfAbsent(channel, key -> new CopyOnWriteArrayList<>()).add(handler);
+  }
+
+  @Override
+  public void start() {
+    Thread thread = new Thread(this::run, "pg-notifications");
+    thread.setDaemon(true);
+    worker = thread;
+    thread.start();
+  }
+
+  @Override
+  public void stop() {
+    Thread thread = worker;
+    worker = null;
+    if (thread != null) {
+      thread.interrupt();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return worker != null;
+  }
+
+  private void run() {
+    boolean reconnect = false;
+    while (worker == Thread.currentThread()) {
+      try (Connection connection = DriverManager.getConnection(
+          connectionDetails.getJdbcUrl(),
+          connectionDetails.getUsername(),
+          connectionDetails.getPassword()
+      )) {
+        if (reconnect) {
+          reconnects.increment();
+          handlers.values().forEach(list -> list.forEach(Handler::onReconnect));
+        }
+        reconnect = true;
+        poll(connection);
+      } catch (SQLException e) {
+        log.warn("Database notification connection failed, retrying in {}", RECONNECT_DELAY, e);
+        if (!pause()) {
+          return;
+        }
+      }
+    }
+  }
+
+  private void poll(Connection connection) throws SQLException {
+    PGConnection pgConnection = connection.unwrap(PGConnection.class);
+    Set<String> listening = new HashSet<>();
+    while (worker == Thread.currentThread()) {
+      for (String channel : handlers.keySet()) {
+        if (listening.add(channel)) {
+          try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + channel);
+          }
+          log.info("Listening to database notifications on {}", channel);
+        }
+      }
+
+      PGNotification[] notifications =
+          pgConnection.getNotifications((int) POLL_TIMEOUT.toMillis());
+      if (notifications != null) {
+        for (PGNotification notification : notifications) {
+          dispatch(notification);
+        }
+      }
+    }
+  }
+
+  private void dispatch(PGNotification notification) {
+    for (Handler handler : handlers.getOrDefault(notification.getName(), List.of())) {
+      try {
+        handler.onNotification(notification.getParameter());
+      } catch (RuntimeException e) {
+        log.warn("Handler failed for a notification on {}", notification.getName(), e);
+      }
+    }
+  }
+
+  private boolean pause() {
+    try {
+      TimeUnit.MILLISECONDS.sleep(RECONNECT_DELAY.toMillis());
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /**
+   * Receives the notifications of a channel. Handlers are called on the listener thread and
+   * should hand long work off to another thread.
+   */
+  public interface Handler {
+
+    /**
+     * Called for every notification on the channel.
+     *
+     * @param payload the payload of the notification, possibly empty
+     */
+    void onNotification(String payload);
+
+    /**
+     * Called when the connection was opened again after a failure, since notifications sent in
+     * between were lost.
+     */
+    default void onReconnect() {
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package ca.bc.gov.nrs.hrs.repository;
+
+import ca.bc.gov.nrs.hrs.entity.legacy.LegacySnapshotEntity;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for the last successful responses of the legacy API calls.
+ *
+ * <p>
+ * Extends {@link CrudRepository} to read {@link LegacySnapshotEntity} instances by the name of
+ * the call.
+ * </p>
+ */
+@Repository
+public interface LegacySnapshotRepository extends CrudRepository<LegacySnapshotEntity, String> {
+
+  /**
+   * Insert or replace the response of a call in a single statement.
+   *
+   * <p>The row is left untouched when it already holds the same body, so pods receiving the same
+   * response do not rewrite it.</p>
+   *
+   * @param key         the name of the call
+   * @param payload     the response body, as JSON text
+   * @param payloadHash the MD5 hash of the response body
+   * @return the number of rows written, 0 when the body was unchanged
+   */
+  @Modifying
+  @Query(
+      value = """
+          INSERT INTO hrs.legacy_snapshot AS s
+            (snapshot_key, payload, payload_hash, updated_date, refreshed_date)
+          VALUES (:key, CAST(:payload AS jsonb), :payloadHash, LOCALTIMESTAMP, LOCALTIMESTAMP)
+          ON CONFLICT (snapshot_key) DO UPDATE
+          SET payload = EXCLUDED.payload,
+              payload_hash = EXCLUDED.payload_hash,
+              updated_date = EXCLUDED.updated_date,
+              refreshed_date = EXCLUDED.refreshed_date
+          WHERE s.payload_hash <> EXCLUDED.payload_hash""",
+      nativeQuery = true
+  )
+  int upsertSnapshot(
+      @Param("key") String key,
+      @Param("payload") String payload,
+      @Param("payloadHash") String payloadHash
+  );
+
+  /**
+   * Record that a call succeeded without changing its response.
+   *
+   * @param key the name of the call
+   * @return the number of rows updated, 0 when the call has no snapshot
+   */
+  @Modifying
+  @Query(
+      value = """
+          UPDATE hrs.legacy_snapshot
+          SET refreshed_date = LOCALTIMESTAMP
+          WHERE snapshot_key = :key""",
+      nativeQuery = true
+  )
+  int markRefreshed(@Param("key") String key);
+
+  /**
+   * Read the snapshot of a call when it was refreshed recently.
+   *
+   * <p>The age is compared with the database clock, the one the refresh time was written with,
+   * so clock drift between pods does not matter.</p>
+   *
+   * @param key    the name of the call
+   * @param maxAge the maximum age of the snapshot, in seconds
+   * @return the snapshot, or empty when there is none or it is older than the maximum age
+   */
+  @Query(
+      value = """
+          SELECT s.*
+          FROM hrs.legacy_snapshot s
+          WHERE s.snapshot_key = :key
+          AND s.refreshed_date >= LOCALTIMESTAMP - make_interval(secs => :maxAge)""",
+      nativeQuery = true
+  )
+  Optional<LegacySnapshotEntity> findRefreshedSince(
+      @Param("key") String key,
+      @Param("maxAge") double maxAge
+  );
+
+}
@@ -1,9 +1,12 @@
 package ca.bc.gov.nrs.hrs.repository;
 
 import ca.bc.gov.nrs.hrs.entity.users.UserPreferenceEntity;
+import java.util.Collection;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
@@ -32,4 +35,140 @@ public interface UserPreferenceRepository extends
   @NonNull
   Optional<UserPreferenceEntity> findById(@NonNull String userId);
 
+  /**
+   * Read only the selected keys of a user's preferences.
+   *
+   * <p>The keys are extracted and re-assembled by Postgres, so only the requested part of the
+   * document is sent over the wire and nothing is deserialized into a map.</p>
+   *
+   * @param userId the id of the user
+   * @param keys   the top-level preference keys to read
+   * @return the JSON object with the keys that exist, or empty when none of them exist
+   */
+  @Query(
+      value = """
+          SELECT CAST(jsonb_object_agg(p.key, p.value) AS text)
+          FROM hrs.user_preferences u
+          CROSS JOIN LATERAL jsonb_each(u.preferences) p
+          WHERE u.user_id = :userId
+          AND p.key IN (:keys)""",
+      nativeQuery = true
+  )
+  Optional<String> findPreferencesByKeys(
+      @Param("userId") String userId,
+      @Param("keys") Collection<String> keys
+  );
+
+  /**
+   * Read a single key of a user's preferences.
+   *
+   * @param userId the id of the user
+   * @param key    the top-level preference key to read
+   * @return the JSON value of the key, or empty when the user or the key does not exist
+   */
+  @Query(
+      value = """
+          SELECT CAST(u.preferences -> :key AS text)
+          FROM hrs.user_preferences u
+          WHERE u.user_id = :userId""",
+      nativeQuery = true
+  )
+  Optional<String> findPreferenceByKey(
+      @Param("userId") String userId,
+      @Param("key") String key
+  );
+
+  /**
+   * Read only the revision of a user's preferences.
+   *
+   * <p>Used to answer conditional requests without loading the document.</p>
+   *
+   * @param userId the id of the user
+   * @return the current revision, or empty when the user has no preferences
+   */
+  @Query(
+      value = """
+          SELECT u.revision
+          FROM hrs.user_preferences u
+          WHERE u.user_id = :userId""",
+      nativeQuery = true
+  )
+  Optional<Long> findRevisionByUserId(@Param("userId") String userId);
+
+  /**
+   * Insert or replace a user's preferences in a single statement.
+   *
+   * <p>The revision starts at 0 and is incremented on every replacement, the same way the
+   * {@code @Version} column of {@link UserPreferenceEntity} is.</p>
+   *
+   * @param userId      the id of the user
+   * @param preferences the preferences document, as JSON text
+   * @return the revision of the saved document
+   */
+  @Query(
+      value = """
+          INSERT INTO hrs.user_preferences AS u (user_id, preferences, updated_date, revision)
+          VALUES (:userId, CAST(:preferences AS jsonb), LOCALTIMESTAMP, 0)
+          ON CONFLICT (user_id) DO UPDATE
+          SET preferences = EXCLUDED.preferences,
+              updated_date = EXCLUDED.updated_date,
+              revision = u.revision + 1
+          RETURNING u.revision""",
+      nativeQuery = true
+  )
+  Long upsertPreferences(
+      @Param("userId") String userId,
+      @Param("preferences") String preferences
+  );
+
+  /**
+   * Replace a user's preferences only when they already exist.
+   *
+   * @param userId      the id of the user
+   * @param preferences the preferences document, as JSON text
+   * @return the new revision, or empty when the user has no preferences
+   */
+  @Query(
+      value = """
+          UPDATE hrs.user_preferences AS u
+          SET preferences = CAST(:preferences AS jsonb),
+              updated_date = LOCALTIMESTAMP,
+              revision = u.revision + 1
+          WHERE u.user_id = :userId
+          RETURNING u.revision""",
+      nativeQuery = true
+  )
+  Optional<Long> updatePreferences(
+      @Param("userId") String userId,
+      @Param("preferences") String preferences
+  );
+
+  /**
+   * Replace a user's preferences only when they are still at one of the expected revisions.
+   *
+   * <p>The check and the write are the same statement, so there is no read before the update
+   * and no window for a concurrent change to slip in between.</p>
+   *
+   * @param userId      the id of the user
+   * @param preferences the preferences document, as JSON text
+   * @param revisions   the revisions the client has seen
+   * @return the new revision, or empty when the preferences were changed or don't exist
+   */
+  @Query(
+      value = """
+          UPDATE hrs.user_preferences AS u
+          SET preferences = CAST(:preferences AS jsonb),
+              updated_date = LOCALTIMESTAMP,
+              revision = u.revision + 1
+          WHERE u.user_id = :userId
+          AND u.revision IN (:revisions)
+          RETURNING u.revision""",
+      nativeQuery = true
+  )
+  Optional<Long> updatePreferencesIfRevision(
+      @Param("userId") String userId,
+      @Param("preferences") String preferences,
+      @Param("revisions") Collection<Long> revisions
+  );
+
 }
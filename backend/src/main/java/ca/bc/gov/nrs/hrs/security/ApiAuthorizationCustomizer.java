@@ -43,7 +43,7 @@ public class ApiAuthorizationCustomizer implements
 
     authorize
         // Allow actuator endpoints to be accessed without authentication
-        .requestMatchers(HttpMethod.GET, "/metrics", "/health")
+        .requestMatchers(HttpMethod.GET, "/metrics", "/health", "/health/**", "/connectionpool")
         .permitAll();
 
     authorize
@@ -52,7 +52,7 @@ public class ApiAuthorizationCustomizer implements
         .authenticated()
 
         // User Preferences can be accessed by authenticated users
-        .requestMatchers("/api/users/preferences")
+        .requestMatchers("/api/users/preferences", "/api/users/preferences/**")
         .authenticated()
 
         // Codes can be accessed by authenticated users
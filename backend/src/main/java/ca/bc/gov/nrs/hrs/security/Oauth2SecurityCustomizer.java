@@ -1,19 +1,21 @@
 package ca.bc.gov.nrs.hrs.security;
 
-import org.springframework.beans.factory.annotation.Value;
+import lombok.RequiredArgsConstructor;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.oauth2.server.resource.OAuth2ResourceServerConfigurer;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 import org.springframework.stereotype.Component;
 
 /**
  * Customize OAuth2 resource server configuration to extract authorities
- * from the JWT's {@code cognito:groups} claim and to configure the JWK set URI.
+ * from the JWT's {@code cognito:groups} claim and to validate tokens with the application's
+ * {@link JwtDecoder}.
  *
  * <p>The customizer sets a JwtAuthenticationConverter that uses the
  * {@code cognito:groups} claim as the source of granted authorities and
@@ -21,16 +23,16 @@ import org.springframework.stereotype.Component;
  * </p>
  */
 @Component
+@RequiredArgsConstructor
 public class Oauth2SecurityCustomizer implements
     Customizer<OAuth2ResourceServerConfigurer<HttpSecurity>> {
 
-  @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}")
-  String jwkSetUri;
+  private final JwtDecoder jwtDecoder;
 
   @Override
   public void customize(
       OAuth2ResourceServerConfigurer<HttpSecurity> customize) {
-    customize.jwt(jwt -> jwt.jwtAuthenticationConverter(converter()).jwkSetUri(jwkSetUri));
+    customize.jwt(jwt -> jwt.jwtAuthenticationConverter(converter()).decoder(jwtDecoder));
   }
 
   private Converter<Jwt, AbstractAuthenticationToken> converter() {
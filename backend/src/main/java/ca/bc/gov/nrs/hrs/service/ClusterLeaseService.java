@@ -0,0 +1,115 @@
+package ca.bc.gov.nrs.hrs.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runs a task on one replica of the cluster at a time, using rows of the
+ * {@code hrs.cluster_lease} table as leases.
+ *
+ * <p>A replica claims a lease with a single statement that inserts the row, or takes it over
+ * when it expired, and releases it by deleting the row once the task is done. Replicas that find
+ * the lease taken skip the task instead of waiting. Both statements run on their own, so no
+ * connection or transaction is held while the task runs, and the task can be as slow as a call
+ * to the legacy API without starving the connection pool.</p>
+ *
+ * <p>A lease expires after {@link #LEASE_TTL}, so a replica that dies while holding it only keeps
+ * the others out until then. It is longer than the longest request deadline, so a live holder's
+ * task is always bounded before its lease can be taken over.</p>
+ */
+@Slf4j
+@Service
+public class ClusterLeaseService {
+
+  /**
+   * Time after which a lease that was not released can be taken by another replica.
+   */
+  static final Duration LEASE_TTL = Duration.ofMinutes(2);
+
+  private final JdbcTemplate jdbcTemplate;
+  private final MeterRegistry registry;
+  private final String holder = UUID.randomUUID().toString();
+
+  /**
+   * Creates the service.
+   *
+   * @param jdbcTemplate the template used to claim and release the leases
+   * @param registry     the meter registry used to publish the lease metrics
+   */
+  public ClusterLeaseService(JdbcTemplate jdbcTemplate, MeterRegistry registry) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.registry = registry;
+  }
+
+  /**
+   * Runs a task if no other replica holds the lease.
+   *
+   * @param lease the name of the lease
+   * @param task  the task to run while holding the lease
+   * @param <T>   the type of the task result
+   * @return the result of the task, or empty when the lease is held elsewhere
+   */
+  public <T> Optional<T> runExclusively(String lease, Supplier<T> task) {
+    int claimed = jdbcTemplate.update(
+        """
+            INSERT INTO hrs.cluster_lease (lease_name, holder, expires_date)
+            VALUES (?, ?, current_timestamp + make_interval(secs => ?))
+            ON CONFLICT (lease_name) DO UPDATE
+            SET holder = excluded.holder, expires_date = excluded.expires_date
+            WHERE hrs.cluster_lease.expires_date < current_timestamp""",
+        lease,
+        holder,
+        LEASE_TTL.toSeconds()
+    );
+    if (claimed == 0) {
+      outcome(lease, "busy").increment();
+      log.debug("Lease {} is held by another replica", lease);
+      return Optional.empty();
+    }
+
+    outcome(lease, "acquired").increment();
+    Timer.Sample held = Timer.start(registry);
+    try {
+      return Optional.ofNullable(task.get());
+    } finally {
+      held.stop(
+          Timer
+              .builder("hrs.cluster.leases.held")
+              .description("Time a lease was held to run its task")
+              .tag("lease", lease)
+              .register(registry)
+      );
+      release(lease);
+    }
+  }
+
+  private void release(String lease) {
+    try {
+      jdbcTemplate.update(
+          "DELETE FROM hrs.cluster_lease WHERE lease_name = ? AND holder = ?",
+          lease,
+          holder
+      );
+    } catch (DataAccessException e) {
+      log.warn("Could not release lease {}, it expires in {}", lease, LEASE_TTL, e);
+    }
+  }
+
+  private Counter outcome(String lease, String outcome) {
+    return Counter
+        .builder("hrs.cluster.leases")
+        .description("Attempts to take a cluster lease, by outcome")
+        .tag("lease", lease)
+        .tag("outcome", outcome)
+        .register(registry);
+  }
+}
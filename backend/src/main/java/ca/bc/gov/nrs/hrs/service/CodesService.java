@@ -34,4 +34,24 @@ public class CodesService {
     log.info("Fetching district codes from legacy API");
     return legacyApiProvider.getDistrictCodes();
   }
+
+  /**
+   * Retrieve district codes from the legacy API, failing instead of falling back.
+   *
+   * @return list of district {@link CodeDescriptionDto}
+   */
+  @NewSpan
+  public List<CodeDescriptionDto> fetchDistrictCodes() {
+    log.info("Fetching district codes from legacy API, without fallback");
+    return legacyApiProvider.fetchDistrictCodes();
+  }
+
+  /**
+   * The last known district codes, used while the legacy API cannot be reached.
+   *
+   * @return list of district {@link CodeDescriptionDto}
+   */
+  public List<CodeDescriptionDto> lastKnownDistrictCodes() {
+    return legacyApiProvider.lastKnownDistrictCodes();
+  }
 }
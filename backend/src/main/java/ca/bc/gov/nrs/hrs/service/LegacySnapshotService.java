@@ -0,0 +1,287 @@
+package ca.bc.gov.nrs.hrs.service;
+
+import ca.bc.gov.nrs.hrs.entity.legacy.LegacySnapshotEntity;
+import ca.bc.gov.nrs.hrs.provider.PostgresNotificationListener;
+import ca.bc.gov.nrs.hrs.repository.LegacySnapshotRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Keeps the last successful response of each cacheable legacy API call, in memory and in the
+ * {@code hrs.legacy_snapshot} table.
+ *
+ * <p>Responses are saved asynchronously after each successful call, off the request thread.
+ * The database is only written when the body differs from the one this pod saved last, and the
+ * statement itself skips bodies another pod already wrote. The circuit breaker fallbacks read
+ * them back when the legacy API is unavailable, from memory first and from the database on a pod
+ * that has not seen the call yet. At startup, every snapshot is loaded into memory (see
+ * {@link #load()}), so a new pod can serve the code lists without the legacy API.</p>
+ *
+ * <p>Replicas refreshing a cached response go through {@link #refresh}, so the legacy API is
+ * called by one replica per time to live instead of every one of them: a replica first reads the
+ * shared snapshot, and only calls the legacy API when it is older than the time to live and it
+ * holds the cluster lease of the call (see {@link ClusterLeaseService}). A changed snapshot
+ * notifies the {@value #CHANNEL} channel, and the other replicas drop their copy and run the
+ * callbacks registered with {@link #onChange}.</p>
+ */
+@Slf4j
+@Service
+public class LegacySnapshotService implements PostgresNotificationListener.Handler {
+
+  static final String CHANNEL = "legacy_snapshot";
+  private static final String LEASE_PREFIX = "legacy-snapshot:";
+
+  private final LegacySnapshotRepository snapshotRepository;
+  private final ClusterLeaseService leaseService;
+  private final ObjectMapper objectMapper;
+  private final TransactionTemplate transactionTemplate;
+  private final MeterRegistry registry;
+  private final Counter writes;
+  private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+  private final Map<String, List<Runnable>> callbacks = new ConcurrentHashMap<>();
+
+  /**
+   * Creates the service and subscribes it to the snapshot change notifications.
+   *
+   * @param snapshotRepository the repository storing the snapshots
+   * @param leaseService       the service electing the replica that refreshes a snapshot
+   * @param objectMapper       the mapper used to convert the responses
+   * @param listener           the listener delivering the database notifications
+   * @param transactionManager the transaction manager the snapshots are written with
+   * @param registry           the meter registry used to publish the snapshot metrics
+   */
+  public LegacySnapshotService(
+      LegacySnapshotRepository snapshotRepository,
+      ClusterLeaseService leaseService,
+      ObjectMapper objectMapper,
+      PostgresNotificationListener listener,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry registry
+  ) {
+    this.snapshotRepository = snapshotRepository;
+    this.leaseService = leaseService;
+    this.objectMapper = objectMapper;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.registry = registry;
+    this.writes = Counter
+        .builder("hrs.legacy.snapshots.writes")
+        .description("Legacy API responses written to the database because they changed")
+        .register(registry);
+
+    listener.listen(CHANNEL, this);
+  }
+
+  /**
+   * Registers a callback run when the snapshot of a call is changed by any replica.
+   *
+   * @param key      the name of the call
+   * @param callback the callback, typically invalidating a cache built from the snapshot
+   */
+  public void onChange(String key, Runnable callback) {
+    callbacks.computeIfAbsent(key, name -> new CopyOnWriteArrayList<>()).add(callback);
+  }
+
+  /**
+   * Saves the response of a successful call, unless it is the same as the last one saved.
+   *
+   * <p>Runs on the task executor, in a transaction of its own that is rolled back before the
+   * failure is caught; a failure is logged and the response is saved again on the next successful
+   * call.</p>
+   *
+   * @param key   the name of the call
+   * @param value the response of the call
+   */
+  @Async
+  public void save(String key, Object value) {
+    try {
+      String json = objectMapper.writeValueAsString(value);
+      String hash = DigestUtils.md5DigestAsHex(json.getBytes(StandardCharsets.UTF_8));
+      Snapshot previous = snapshots.get(key);
+      if (previous != null && previous.hash().equals(hash)) {
+        transactionTemplate.executeWithoutResult(status -> snapshotRepository.markRefreshed(key));
+        return;
+      }
+
+      boolean written = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+        if (snapshotRepository.upsertSnapshot(key, json, hash) > 0) {
+          return true;
+        }
+        snapshotRepository.markRefreshed(key);
+        return false;
+      }));
+      if (written) {
+        writes.increment();
+        log.info("Saved a new snapshot of legacy {}, hash {}", key, hash);
+      }
+      snapshots.put(key, new Snapshot(objectMapper.readTree(json), hash));
+    } catch (JsonProcessingException | DataAccessException | TransactionException e) {
+      log.warn("Could not save the snapshot of legacy {}", key, e);
+    }
+  }
+
+  /**
+   * Returns the response of a call, calling the legacy API only when no replica did within the
+   * time to live.
+   *
+   * <p>The shared snapshot is served when it was refreshed within the time to live. Otherwise
+   * the replica holding the lease of the call runs the loader, which saves the response when it
+   * succeeds, while the others serve the snapshot they have. The loader is called directly when
+   * there is no snapshot at all or the database is unavailable.</p>
+   *
+   * <p>The loader must throw when the call fails rather than fall back, such as
+   * {@code LegacyApiProvider#fetchDistrictCodes}: whatever it returns is handed to the caller as
+   * a fresh response, and a fallback would then be cached for a whole time to live. A failure is
+   * thrown back to the caller, nothing is saved, and the lease is released for the next
+   * request.</p>
+   *
+   * @param key    the name of the call
+   * @param type   the type of the response
+   * @param maxAge the time to live of the snapshot
+   * @param loader the supplier calling the legacy API, throwing when the call fails
+   * @param <T>    the type of the response
+   * @return the response
+   */
+  public <T> T refresh(String key, TypeReference<T> type, Duration maxAge, Supplier<T> loader) {
+    Optional<T> fresh = findRefreshedSince(key, type, maxAge);
+    if (fresh.isPresent()) {
+      return fresh.get();
+    }
+
+    Optional<T> refreshed;
+    try {
+      refreshed = leaseService.runExclusively(
+          LEASE_PREFIX + key,
+          () -> findRefreshedSince(key, type, maxAge).orElseGet(loader)
+      );
+    } catch (DataAccessException e) {
+      log.warn("Could not take the lease of legacy {}, calling it directly", key, e);
+      return loader.get();
+    }
+    return refreshed
+        .or(() -> find(key, type))
+        .orElseGet(loader);
+  }
+
+  /**
+   * Reads the last successful response of a call.
+   *
+   * @param key  the name of the call
+   * @param type the type of the response
+   * @param <T>  the type of the response
+   * @return the response, or empty when there is none or it no longer matches the type
+   */
+  public <T> Optional<T> find(String key, TypeReference<T> type) {
+    Snapshot snapshot = snapshots.get(key);
+    String source = "memory";
+    if (snapshot == null) {
+      snapshot = read(key).orElse(null);
+      source = snapshot != null ? "database" : "none";
+    }
+    return convert(key, snapshot, type, source);
+  }
+
+  /**
+   * Loads every snapshot from the database into memory.
+   *
+   * @return the number of snapshots loaded
+   */
+  public int load() {
+    int loaded = 0;
+    for (LegacySnapshotEntity entity : snapshotRepository.findAll()) {
+      snapshots.put(entity.getKey(), new Snapshot(entity.getPayload(), entity.getPayloadHash()));
+      loaded++;
+    }
+    log.info("Loaded {} legacy snapshots", loaded);
+    return loaded;
+  }
+
+  @Override
+  public void onNotification(String payload) {
+    log.debug("Snapshot of legacy {} changed", payload);
+    snapshots.remove(payload);
+    callbacks.getOrDefault(payload, List.of()).forEach(Runnable::run);
+  }
+
+  @Override
+  public void onReconnect() {
+    Set<String> keys = new HashSet<>(snapshots.keySet());
+    keys.addAll(callbacks.keySet());
+    keys.forEach(this::onNotification);
+  }
+
+  private <T> Optional<T> findRefreshedSince(String key, TypeReference<T> type, Duration maxAge) {
+    Snapshot snapshot;
+    try {
+      snapshot = snapshotRepository
+          .findRefreshedSince(key, maxAge.toMillis() / 1000d)
+          .map(entity -> new Snapshot(entity.getPayload(), entity.getPayloadHash()))
+          .orElse(null);
+    } catch (DataAccessException e) {
+      log.warn("Could not read the snapshot of legacy {}", key, e);
+      return Optional.empty();
+    }
+    if (snapshot == null) {
+      return Optional.empty();
+    }
+    snapshots.put(key, snapshot);
+    return convert(key, snapshot, type, "shared");
+  }
+
+  private <T> Optional<T> convert(
+      String key,
+      Snapshot snapshot,
+      TypeReference<T> type,
+      String source
+  ) {
+    registry.counter("hrs.legacy.snapshots.reads", "key", key, "source", source).increment();
+    if (snapshot == null) {
+      return Optional.empty();
+    }
+
+    try {
+      return Optional.ofNullable(objectMapper.convertValue(snapshot.payload(), type));
+    } catch (IllegalArgumentException e) {
+      log.warn("Snapshot of legacy {} does not match {}", key, type.getType(), e);
+      return Optional.empty();
+    }
+  }
+
+  private Optional<Snapshot> read(String key) {
+    try {
+      Optional<Snapshot> snapshot = snapshotRepository
+          .findById(key)
+          .map(entity -> new Snapshot(entity.getPayload(), entity.getPayloadHash()));
+      snapshot.ifPresent(value -> snapshots.putIfAbsent(key, value));
+      return snapshot;
+    } catch (DataAccessException e) {
+      log.warn("Could not read the snapshot of legacy {}", key, e);
+      return Optional.empty();
+    }
+  }
+
+  private record Snapshot(JsonNode payload, String hash) {
+
+  }
+}
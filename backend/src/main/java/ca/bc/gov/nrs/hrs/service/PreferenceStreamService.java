@@ -0,0 +1,255 @@
+package ca.bc.gov.nrs.hrs.service;
+
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration.PreferencesConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration.PreferencesStreamConfiguration;
+import ca.bc.gov.nrs.hrs.dto.base.PreferenceChangeDto;
+import ca.bc.gov.nrs.hrs.dto.base.PreferenceEventDto;
+import ca.bc.gov.nrs.hrs.exception.StreamLimitExceededException;
+import ca.bc.gov.nrs.hrs.provider.PostgresNotificationListener;
+import ca.bc.gov.nrs.hrs.repository.UserPreferenceRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Streams changes of a user's preferences to their open tabs and devices as server-sent events.
+ *
+ * <p>Every write to {@code hrs.user_preferences} fires a trigger that notifies the
+ * {@value #CHANNEL} channel with the user id, the new revision and the changed and removed keys.
+ * Every pod listens to it (see {@link PostgresNotificationListener}), and the pod holding streams
+ * of that user reads the values of the changed keys only and pushes them as a
+ * {@value #PREFERENCES_EVENT} event. Nothing is read for users without an open stream.</p>
+ *
+ * <p>An open stream costs no thread: it is an async request, and events are written from
+ * virtual threads. Each pod accepts a limited number of streams and answers 503 above it. A
+ * {@value #REVISION_EVENT} event is sent when a stream opens, and whenever changes may have been
+ * missed, so the client can compare it with its copy and read the preferences again if needed.
+ * Idle streams get a heartbeat comment so proxies keep them open.</p>
+ */
+@Slf4j
+@Service
+public class PreferenceStreamService implements PostgresNotificationListener.Handler {
+
+  static final String CHANNEL = "user_preferences";
+  static final String PREFERENCES_EVENT = "preferences";
+  static final String REVISION_EVENT = "revision";
+  // Saved preferences start at revision 0, like the @Version column
+  static final long NO_REVISION = -1L;
+
+  private final UserPreferenceRepository preferenceRepository;
+  private final ObjectMapper objectMapper;
+  private final PreferencesStreamConfiguration configuration;
+  private final Map<String, Set<SseEmitter>> streams = new ConcurrentHashMap<>();
+  private final AtomicInteger open = new AtomicInteger();
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+  private final Counter rejected;
+  private final Counter events;
+
+  /**
+   * Creates the service and subscribes it to the preference change notifications.
+   *
+   * @param preferenceRepository the repository used to read the changed preferences
+   * @param objectMapper         the mapper used to read the notifications
+   * @param configuration        the application configuration holding the stream settings
+   * @param listener             the listener delivering the database notifications
+   * @param registry             the meter registry used to publish the stream metrics
+   */
+  public PreferenceStreamService(
+      UserPreferenceRepository preferenceRepository,
+      ObjectMapper objectMapper,
+      ApplicationConfiguration configuration,
+      PostgresNotificationListener listener,
+      MeterRegistry registry
+  ) {
+    this.preferenceRepository = preferenceRepository;
+    this.objectMapper = objectMapper;
+    this.configuration = Optional
+        .ofNullable(configuration.getPreferences())
+        .map(PreferencesConfiguration::getStream)
+        .orElseGet(PreferencesStreamConfiguration::new);
+    this.rejected = Counter
+        .builder("hrs.preferences.streams.rejected")
+        .description("Preference streams refused because the pod was at its limit")
+        .register(registry);
+    this.events = Counter
+        .builder("hrs.preferences.streams.events")
+        .description("Preference change events sent to open streams")
+        .register(registry);
+    Gauge
+        .builder("hrs.preferences.streams", open, AtomicInteger::get)
+        .description("Preference streams open on this pod")
+        .register(registry);
+
+    if (this.configuration.isEnabled()) {
+      listener.listen(CHANNEL, this);
+    }
+  }
+
+  /**
+   * Opens a stream of preference changes for a user.
+   *
+   * @param userId the id of the user
+   * @return the emitter the events are sent to
+   * @throws StreamLimitExceededException when the stream is disabled or the pod is at its limit
+   */
+  public SseEmitter open(String userId) {
+    if (!configuration.isEnabled()) {
+      throw new StreamLimitExceededException("preferences");
+    }
+    if (open.incrementAndGet() > configuration.getMaxConnections()) {
+      open.decrementAndGet();
+      rejected.increment();
+      throw new StreamLimitExceededException("preferences");
+    }
+
+    Duration timeout = Optional.ofNullable(configuration.getTimeout()).orElse(Duration.ZERO);
+    SseEmitter emitter = new SseEmitter(timeout.toMillis());
+    streams.compute(userId, (key, emitters) -> {
+      Set<SseEmitter> set = emitters != null ? emitters : ConcurrentHashMap.newKeySet();
+      set.add(emitter);
+      return set;
+    });
+    emitter.onCompletion(() -> close(userId, emitter));
+    emitter.onTimeout(() -> close(userId, emitter));
+    emitter.onError(error -> close(userId, emitter));
+
+    log.debug("Opened preference stream for user {}", userId);
+    send(userId, emitter, REVISION_EVENT, revisionOf(userId));
+    return emitter;
+  }
+
+  /**
+   * Pushes a preference change to the streams of the user it belongs to, if any are open on
+   * this pod.
+   *
+   * @param payload the notification sent by the database trigger
+   */
+  @Override
+  public void onNotification(String payload) {
+    PreferenceChangeDto change;
+    try {
+      change = objectMapper.readValue(payload, PreferenceChangeDto.class);
+    } catch (JsonProcessingException e) {
+      log.warn("Ignoring malformed preference change notification", e);
+      return;
+    }
+
+    if (streams.containsKey(change.userId())) {
+      executor.execute(() -> publish(change));
+    }
+  }
+
+  /**
+   * Tells every open stream its current revision, since changes may have been missed while the
+   * notification connection was down.
+   */
+  @Override
+  public void onReconnect() {
+    streams.keySet().forEach(userId -> executor.execute(() -> resync(userId)));
+  }
+
+  /**
+   * Sends a heartbeat comment on every open stream.
+   */
+  @Scheduled(fixedRateString = "${ca.bc.gov.nrs.preferences.stream.heartbeat:25s}")
+  public void heartbeat() {
+    streams.forEach((userId, emitters) ->
+        emitters.forEach(emitter -> executor.execute(() -> {
+          try {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+          } catch (IOException | IllegalStateException e) {
+            close(userId, emitter);
+          }
+        }))
+    );
+  }
+
+  @PreDestroy
+  void shutdown() {
+    streams.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+    executor.shutdownNow();
+  }
+
+  private void publish(PreferenceChangeDto change) {
+    if (change.changed() == null || change.removed() == null) {
+      PreferenceEventDto event = new PreferenceEventDto(change.revision(), null, null);
+      broadcast(change.userId(), REVISION_EVENT, event);
+      return;
+    }
+
+    String changed = change.changed().isEmpty()
+        ? "{}"
+        : preferenceRepository
+            .findPreferencesByKeys(change.userId(), change.changed())
+            .orElse("{}");
+    broadcast(
+        change.userId(),
+        PREFERENCES_EVENT,
+        new PreferenceEventDto(change.revision(), changed, change.removed())
+    );
+  }
+
+  private void resync(String userId) {
+    broadcast(userId, REVISION_EVENT, revisionOf(userId));
+  }
+
+  private PreferenceEventDto revisionOf(String userId) {
+    return new PreferenceEventDto(
+        preferenceRepository.findRevisionByUserId(userId).orElse(NO_REVISION),
+        null,
+        null
+    );
+  }
+
+  private void broadcast(String userId, String name, PreferenceEventDto event) {
+    streams
+        .getOrDefault(userId, Set.of())
+        .forEach(emitter -> send(userId, emitter, name, event));
+  }
+
+  private void send(String userId, SseEmitter emitter, String name, PreferenceEventDto event) {
+    try {
+      emitter.send(
+          SseEmitter
+              .event()
+              .name(name)
+              .id(String.valueOf(event.revision()))
+              .data(event, MediaType.APPLICATION_JSON)
+      );
+      events.increment();
+    } catch (IOException | IllegalStateException e) {
+      log.debug("Preference stream of user {} is gone", userId, e);
+      close(userId, emitter);
+    }
+  }
+
+  private void close(String userId, SseEmitter emitter) {
+    AtomicBoolean removed = new AtomicBoolean();
+    streams.computeIfPresent(userId, (key, emitters) -> {
+      removed.set(emitters.remove(emitter));
+      return emitters.isEmpty() ? null : emitters;
+    });
+    if (removed.get()) {
+      open.decrementAndGet();
+    }
+  }
+}
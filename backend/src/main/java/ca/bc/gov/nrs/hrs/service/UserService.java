@@ -1,13 +1,28 @@
 package ca.bc.gov.nrs.hrs.service;
 
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration.PreferencesConfiguration;
 import ca.bc.gov.nrs.hrs.entity.users.UserPreferenceEntity;
+import ca.bc.gov.nrs.hrs.exception.NotFoundGenericException;
+import ca.bc.gov.nrs.hrs.exception.PreconditionFailedException;
+import ca.bc.gov.nrs.hrs.exception.PreferencesTooLargeException;
 import ca.bc.gov.nrs.hrs.repository.UserPreferenceRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.observation.annotation.Observed;
 import io.micrometer.tracing.annotation.NewSpan;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
-import lombok.RequiredArgsConstructor;
+import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Service responsible for reading and persisting user preference data.
@@ -20,10 +35,53 @@ import org.springframework.stereotype.Service;
 @Slf4j
 @Service
 @Observed
-@RequiredArgsConstructor
 public class UserService {
 
+  private static final DataSize UNLIMITED = DataSize.ofBytes(Long.MAX_VALUE);
+
   private final UserPreferenceRepository preferenceRepository;
+  private final ObjectMapper objectMapper;
+  private final DataSize maxSize;
+  private final DistributionSummary documentSize;
+
+  /**
+   * Creates the service and registers the preferences size metric.
+   *
+   * <p>The size distribution has buckets around the 2 KB point where Postgres starts to compress
+   * and move JSONB values out of line (TOAST), so the share of documents paying that cost on
+   * every read and write is visible before it shows up in latency.</p>
+   *
+   * @param preferenceRepository the repository used to read and write preferences
+   * @param objectMapper         the mapper used to measure the size of a document
+   * @param configuration        the application configuration holding the maximum size
+   * @param registry             the meter registry used to publish the size distribution
+   */
+  public UserService(
+      UserPreferenceRepository preferenceRepository,
+      ObjectMapper objectMapper,
+      ApplicationConfiguration configuration,
+      MeterRegistry registry
+  ) {
+    this.preferenceRepository = preferenceRepository;
+    this.objectMapper = objectMapper;
+    this.maxSize = Optional
+        .ofNullable(configuration.getPreferences())
+        .map(PreferencesConfiguration::getMaxSize)
+        .orElse(UNLIMITED);
+    this.documentSize = DistributionSummary
+        .builder("hrs.preferences.size")
+        .description("Size of the user preferences documents being saved")
+        .baseUnit("bytes")
+        .serviceLevelObjectives(
+            DataSize.ofKilobytes(1).toBytes(),
+            DataSize.ofKilobytes(2).toBytes(),
+            DataSize.ofKilobytes(8).toBytes(),
+            DataSize.ofKilobytes(32).toBytes(),
+            DataSize.ofKilobytes(128).toBytes()
+        )
+        .publishPercentiles(0.5, 0.95, 0.99)
+        .register(registry);
+  }
 
   /**
    * Retrieve preferences for a given user id.
@@ -43,35 +101,155 @@ public class UserService {
         .orElse(Map.of());
   }
 
+  /**
+   * Retrieve only the selected preferences of a given user.
+   *
+   * <p>The selection is done by the database, and the result is returned as the JSON text it
+   * produced. Keys that don't exist are left out; an empty object is returned when none exist.</p>
+   *
+   * @param userId the id of the user to fetch preferences for
+   * @param keys   the top-level preference keys to read
+   * @return a JSON object with the selected preferences (never null)
+   */
+  @NewSpan
+  public String getUserPreferences(String userId, Collection<String> keys) {
+    List<String> selectedKeys = keys
+        .stream()
+        .filter(StringUtils::isNotBlank)
+        .map(String::trim)
+        .distinct()
+        .toList();
+
+    log.info("Retrieving preferences {} for user: {}", selectedKeys, userId);
+    if (selectedKeys.isEmpty()) {
+      return "{}";
+    }
+    return preferenceRepository
+        .findPreferencesByKeys(userId, selectedKeys)
+        .orElse("{}");
+  }
+
+  /**
+   * Retrieve a single preference of a given user.
+   *
+   * @param userId the id of the user to fetch the preference for
+   * @param key    the top-level preference key to read
+   * @return the JSON value of the preference
+   * @throws NotFoundGenericException when the user has no such preference
+   */
+  @NewSpan
+  public String getUserPreference(String userId, String key) {
+    log.info("Retrieving preference {} for user: {}", key, userId);
+    return preferenceRepository
+        .findPreferenceByKey(userId, key)
+        .orElseThrow(() -> new NotFoundGenericException("Preference", key));
+  }
+
+  /**
+   * Retrieve the revision of a given user's preferences.
+   *
+   * <p>This is a single-column read, cheap enough to run on every conditional request.</p>
+   *
+   * @param userId the id of the user
+   * @return the current revision, or empty when no preferences have been stored for the user
+   */
+  @NewSpan
+  public Optional<Long> getUserPreferencesRevision(String userId) {
+    return preferenceRepository.findRevisionByUserId(userId);
+  }
+
   /**
    * Persist or update preferences for a given user.
    *
-   * <p>If a preferences record already exists for the user it will be updated
-   * with the provided values; otherwise a new {@link UserPreferenceEntity}
-   * will be created and saved.
+   * <p>The preferences are inserted, or replace the existing ones, in a single statement; the
+   * current record is not read first.</p>
+   *
+   * <p>The document is rejected when its JSON form is larger than the configured maximum size.
    * </p>
    *
    * @param userId the id of the user
    * @param preferences the preferences to save
+   * @return the revision of the saved preferences
+   * @throws PreferencesTooLargeException when the document is above the maximum size
    */
   @NewSpan
-  public void saveUserPreferences(String userId, Map<String, Object> preferences) {
-
+  @Transactional
+  public long saveUserPreferences(String userId, Map<String, Object> preferences) {
+    String json = toJson(userId, preferences);
 
     log.info("Saving preferences for user: {}", userId);
+    return preferenceRepository.upsertPreferences(userId, json);
+  }
+
+  /**
+   * Update preferences for a given user, only if they already exist.
+   *
+   * <p>This is what {@code If-Match: *} asks for: any revision will do, but preferences that were
+   * never saved are not created.</p>
+   *
+   * @param userId      the id of the user
+   * @param preferences the preferences to save
+   * @return the revision of the saved preferences
+   * @throws PreferencesTooLargeException when the document is above the maximum size
+   * @throws PreconditionFailedException  when the user has no preferences
+   */
+  @NewSpan
+  @Transactional
+  public long replaceUserPreferences(String userId, Map<String, Object> preferences) {
+    String json = toJson(userId, preferences);
+
+    log.info("Replacing existing preferences for user: {}", userId);
+    return preferenceRepository
+        .updatePreferences(userId, json)
+        .orElseThrow(() -> new PreconditionFailedException("Preferences"));
+  }
+
+  /**
+   * Update preferences for a given user, only if they are still at one of the expected
+   * revisions.
+   *
+   * <p>The revision check and the update are a single statement. When nothing was updated,
+   * either the preferences were changed by someone else or they don't exist yet.</p>
+   *
+   * @param userId            the id of the user
+   * @param preferences       the preferences to save
+   * @param expectedRevisions the revisions the client has seen
+   * @return the revision of the saved preferences
+   * @throws PreferencesTooLargeException when the document is above the maximum size
+   * @throws PreconditionFailedException  when the preferences are not at an expected revision
+   */
+  @NewSpan
+  @Transactional
+  public long saveUserPreferences(
+      String userId,
+      Map<String, Object> preferences,
+      Collection<Long> expectedRevisions
+  ) {
+    if (expectedRevisions.isEmpty()) {
+      throw new PreconditionFailedException("Preferences");
+    }
+    String json = toJson(userId, preferences);
+
+    log.info("Saving preferences for user {} at revision {}", userId, expectedRevisions);
+    return preferenceRepository
+        .updatePreferencesIfRevision(userId, json, expectedRevisions)
+        .orElseThrow(() -> new PreconditionFailedException("Preferences"));
+  }
+
+  private String toJson(String userId, Map<String, Object> preferences) {
+    byte[] json;
+    try {
+      json = objectMapper.writeValueAsBytes(preferences);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Preferences cannot be written as JSON", e);
+    }
 
-    UserPreferenceEntity preferenceEntity =
-        preferenceRepository
-            .findById(userId)
-            .map(preference -> preference.withPreferences(preferences))
-            .orElse(
-                UserPreferenceEntity
-                    .builder()
-                    .userId(userId)
-                    .preferences(preferences)
-                    .build()
-            );
-
-    preferenceRepository.save(preferenceEntity);
+    documentSize.record(json.length);
+    if (json.length > maxSize.toBytes()) {
+      log.warn("Rejecting preferences for user {}, {} bytes is above the limit",
+          userId, json.length);
+      throw new PreferencesTooLargeException(json.length, maxSize);
+    }
+    return new String(json, StandardCharsets.UTF_8);
   }
 }
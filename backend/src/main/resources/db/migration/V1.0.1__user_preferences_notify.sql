@@ -0,0 +1,42 @@
+create or replace function hrs.notify_user_preferences() returns trigger as $$
+declare
+    changed_keys text[];
+    removed_keys text[];
+    payload      text;
+begin
+    select coalesce(array_agg(n.key), '{}')
+    into changed_keys
+    from jsonb_each(new.preferences) n
+    where tg_op = 'INSERT'
+       or (old.preferences -> n.key) is distinct from n.value;
+
+    select coalesce(array_agg(o.key), '{}')
+    into removed_keys
+    from jsonb_each(case when tg_op = 'UPDATE' then old.preferences else '{}'::jsonb end) o
+    where (new.preferences -> o.key) is null;
+
+    payload := json_build_object(
+        'userId', new.user_id,
+        'revision', new.revision,
+        'changed', changed_keys,
+        'removed', removed_keys
+    )::text;
+
+    -- pg_notify payloads are limited to 8000 bytes, send the revision alone when the keys don't fit
+    if octet_length(payload) > 7900 then
+        payload := json_build_object('userId', new.user_id, 'revision', new.revision)::text;
+    end if;
+
+    perform pg_notify('user_preferences', payload);
+    return new;
+end;
+$$ language plpgsql;
+
+drop trigger if exists user_preferences_notify on hrs.user_preferences;
+
+create trigger user_preferences_notify
+    after insert or update on hrs.user_preferences
+    for each row
+    execute function hrs.notify_user_preferences();
+
+comment on function hrs.notify_user_preferences() is 'Notifies the user_preferences channel with the keys changed by a write';
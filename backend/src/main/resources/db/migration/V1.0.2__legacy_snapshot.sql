@@ -0,0 +1,13 @@
+create table if not exists hrs.legacy_snapshot (
+    snapshot_key  varchar(60)     not null,
+    payload       jsonb           not null,
+    payload_hash  varchar(32)     not null,
+    updated_date  timestamp       not null default current_timestamp,
+    constraint legacy_snapshot_pk primary key (snapshot_key)
+);
+
+comment on table hrs.legacy_snapshot is 'Last successful response of each cacheable legacy API call';
+comment on column hrs.legacy_snapshot.snapshot_key is 'Name of the legacy API call';
+comment on column hrs.legacy_snapshot.payload is 'Response body of the call in JSON format';
+comment on column hrs.legacy_snapshot.payload_hash is 'MD5 hash of the response body, used to skip unchanged writes';
+comment on column hrs.legacy_snapshot.updated_date is 'Timestamp of the last change to the response body';
@@ -0,0 +1,22 @@
+alter table hrs.legacy_snapshot
+    add column if not exists refreshed_date timestamp not null default current_timestamp;
+
+comment on column hrs.legacy_snapshot.refreshed_date is 'Timestamp of the last successful call, changed or not';
+
+create or replace function hrs.notify_legacy_snapshot() returns trigger as $$
+begin
+    if tg_op = 'INSERT' or old.payload_hash is distinct from new.payload_hash then
+        perform pg_notify('legacy_snapshot', new.snapshot_key);
+    end if;
+    return new;
+end;
+$$ language plpgsql;
+
+drop trigger if exists legacy_snapshot_notify on hrs.legacy_snapshot;
+
+create trigger legacy_snapshot_notify
+    after insert or update on hrs.legacy_snapshot
+    for each row
+    execute function hrs.notify_legacy_snapshot();
+
+comment on function hrs.notify_legacy_snapshot() is 'Notifies the legacy_snapshot channel with the key of a snapshot whose body changed';
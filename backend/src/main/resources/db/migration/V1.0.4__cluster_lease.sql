@@ -0,0 +1,11 @@
+create table if not exists hrs.cluster_lease (
+    lease_name    varchar(100)    not null,
+    holder        varchar(36)     not null,
+    expires_date  timestamp       not null,
+    constraint cluster_lease_pk primary key (lease_name)
+);
+
+comment on table hrs.cluster_lease is 'Leases electing the replica that runs a task on behalf of the cluster';
+comment on column hrs.cluster_lease.lease_name is 'Name of the lease';
+comment on column hrs.cluster_lease.holder is 'Identifier of the replica holding the lease';
+comment on column hrs.cluster_lease.expires_date is 'Timestamp after which another replica can take the lease';
@@ -0,0 +1,148 @@
+package ca.bc.gov.nrs.hrs;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.nrs.hrs.extensions.WiremockLogNotifier;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Boots the native binary against a local Postgres and a WireMock legacy API and checks the time
+ * it takes to answer its first request.
+ *
+ * <p>Only runs when {@code native.binary} points to a built executable, which the
+ * {@code native-startup} profile does. The budget is read from {@code native.startup.budget}, in
+ * milliseconds.</p>
+ */
+@Slf4j
+@Testcontainers
+@EnabledIfSystemProperty(named = "native.binary", matches = ".+")
+@DisplayName("Integrated Test | Native Startup")
+class NativeStartupIntegrationTest {
+
+  private static final Duration GIVE_UP_AFTER = Duration.ofSeconds(60);
+  private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+
+  @Container
+  static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:13")
+      .withDatabaseName("hrs")
+      .withUsername("hrs")
+      .withPassword(UUID.randomUUID().toString());
+
+  @RegisterExtension
+  static WireMockExtension legacyStub = WireMockExtension
+      .newInstance()
+      .options(
+          wireMockConfig()
+              .dynamicPort()
+              .notifier(new WiremockLogNotifier())
+      )
+      .build();
+
+  private final HttpClient client = HttpClient
+      .newBuilder()
+      .connectTimeout(Duration.ofSeconds(1))
+      .build();
+
+  @Test
+  @DisplayName("First request served within the startup budget")
+  void shouldServeFirstRequestWithinBudget() throws Exception {
+    // Given
+    Path binary = Path.of(System.getProperty("native.binary"));
+    Duration budget = Duration.ofMillis(Long.getLong("native.startup.budget", 1500L));
+    assertThat(binary).isExecutable();
+
+    legacyStub.stubFor(get(urlPathEqualTo("/health/liveness"))
+        .willReturn(okJson("{\"status\":\"UP\"}")));
+    legacyStub.stubFor(get(urlPathEqualTo("/.well-known/jwks.json"))
+        .willReturn(okJson("{\"keys\":[]}")));
+
+    int port = freePort();
+    Path output = Files.createTempFile("native-startup", ".log");
+    ProcessBuilder builder = new ProcessBuilder(binary.toString())
+        .redirectErrorStream(true)
+        .redirectOutput(output.toFile());
+    builder.environment().putAll(Map.of(
+        "SERVER_PORT", String.valueOf(port),
+        "SPRING_DATASOURCE_JDBCURL", postgres.getJdbcUrl(),
+        "POSTGRES_USER", postgres.getUsername(),
+        "POSTGRES_PASSWORD", postgres.getPassword(),
+        "LEGACY_URL", legacyStub.baseUrl(),
+        "SPRING_SECURITY_OAUTH2_RESOURCESERVER_JWT_JWKSETURI",
+        legacyStub.baseUrl() + "/.well-known/jwks.json"
+    ));
+
+    // When
+    long start = System.nanoTime();
+    Process process = builder.start();
+    Duration timeToFirstRequest;
+    try {
+      timeToFirstRequest = awaitFirstResponse(process, port, start);
+    } finally {
+      process.destroy();
+      if (!process.waitFor(10, TimeUnit.SECONDS)) {
+        process.destroyForcibly();
+      }
+    }
+
+    // Then
+    log.info("Native binary served its first request after {} ms (budget {} ms), output in {}",
+        timeToFirstRequest.toMillis(), budget.toMillis(), output);
+    assertThat(timeToFirstRequest)
+        .as("time to first request, see %s", output)
+        .isLessThanOrEqualTo(budget);
+  }
+
+  private Duration awaitFirstResponse(Process process, int port, long start)
+      throws InterruptedException, IOException {
+    HttpRequest request = HttpRequest
+        .newBuilder(URI.create("http://localhost:" + port + "/health/readiness"))
+        .timeout(Duration.ofSeconds(1))
+        .GET()
+        .build();
+
+    while (Duration.ofNanos(System.nanoTime() - start).compareTo(GIVE_UP_AFTER) < 0) {
+      assertThat(process.isAlive()).as("native binary exited during startup").isTrue();
+      try {
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() == 200) {
+          return Duration.ofNanos(System.nanoTime() - start);
+        }
+      } catch (ConnectException notListeningYet) {
+        // Port is not open yet, keep polling
+      }
+      Thread.sleep(POLL_INTERVAL);
+    }
+    throw new AssertionError("Native binary did not answer within " + GIVE_UP_AFTER);
+  }
+
+  private static int freePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+}
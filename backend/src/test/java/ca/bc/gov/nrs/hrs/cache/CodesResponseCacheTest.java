@@ -0,0 +1,91 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration.ResponseCacheConfiguration;
+import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
+import ca.bc.gov.nrs.hrs.exception.DeadlineExceededException;
+import ca.bc.gov.nrs.hrs.provider.LegacyApiConstants;
+import ca.bc.gov.nrs.hrs.service.CodesService;
+import ca.bc.gov.nrs.hrs.service.LegacySnapshotService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test | Codes Response Cache")
+class CodesResponseCacheTest {
+
+  private static final List<CodeDescriptionDto> DISTRICTS = List.of(
+      new CodeDescriptionDto("DCK", "Chilliwack Natural Resource District"),
+      new CodeDescriptionDto("DSQ", "Sea to Sky Natural Resource District")
+  );
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final CodesService codesService = mock(CodesService.class);
+  private final LegacySnapshotService snapshotService = mock(LegacySnapshotService.class);
+  private CodesResponseCache cache;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    when(snapshotService.refresh(anyString(), any(), any(), any()))
+        .thenAnswer(invocation -> ((Supplier<Object>) invocation.getArgument(3)).get());
+    when(codesService.lastKnownDistrictCodes()).thenReturn(LegacyApiConstants.DEFAULT_DISTRICTS);
+    cache = new CodesResponseCache(
+        codesService,
+        snapshotService,
+        objectMapper,
+        ApplicationConfiguration
+            .builder()
+            .responseCache(ResponseCacheConfiguration.builder().ttl(Duration.ZERO).build())
+            .build()
+    );
+  }
+
+  @Test
+  @DisplayName("should keep serving the last good list when the legacy API fails")
+  void shouldKeepLastGoodList() {
+    // Given one good load
+    when(codesService.fetchDistrictCodes())
+        .thenReturn(DISTRICTS)
+        .thenThrow(new DeadlineExceededException("districts"));
+    CachedResponseBody good = cache.districts();
+
+    // When the next load fails
+    CachedResponseBody served = cache.districts();
+
+    // Then
+    assertThat(served).isSameAs(good);
+    assertThat(served.etag())
+        .isNotEqualTo(CachedResponseBody.of(objectMapper, LegacyApiConstants.DEFAULT_DISTRICTS)
+            .etag());
+  }
+
+  @Test
+  @DisplayName("should serve the last known list until the first load succeeds")
+  void shouldServeLastKnownListUntilLoaded() {
+    // Given the legacy API fails once
+    when(codesService.fetchDistrictCodes())
+        .thenThrow(new IllegalStateException("legacy is down"))
+        .thenReturn(DISTRICTS);
+
+    // When
+    CachedResponseBody fallback = cache.districts();
+    CachedResponseBody loaded = cache.districts();
+
+    // Then the fallback is not kept as a fresh list
+    assertThat(fallback.etag())
+        .isEqualTo(CachedResponseBody.of(objectMapper, LegacyApiConstants.DEFAULT_DISTRICTS)
+            .etag());
+    assertThat(loaded.etag()).isEqualTo(CachedResponseBody.of(objectMapper, DISTRICTS).etag());
+  }
+}
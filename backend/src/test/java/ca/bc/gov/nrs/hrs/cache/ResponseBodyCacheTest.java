@@ -0,0 +1,193 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@DisplayName("Unit Test | Response Body Cache")
+class ResponseBodyCacheTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  @DisplayName("should keep the encoded body while the list does not change")
+  void shouldKeepBodyWhileUnchanged() {
+    // Given
+    AtomicInteger loads = new AtomicInteger();
+    ResponseBodyCache<List<CodeDescriptionDto>> cache = new ResponseBodyCache<>(
+        "districts",
+        () -> {
+          loads.incrementAndGet();
+          return districts(23);
+        },
+        objectMapper,
+        Duration.ZERO
+    );
+
+    // When
+    CachedResponseBody first = cache.get();
+    CachedResponseBody second = cache.get();
+
+    // Then
+    assertThat(loads).hasValue(2);
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  @DisplayName("should encode the body again when the list changes")
+  void shouldEncodeAgainWhenChanged() {
+    // Given
+    List<List<CodeDescriptionDto>> snapshots = new ArrayList<>(List.of(districts(2), districts(3)));
+    ResponseBodyCache<List<CodeDescriptionDto>> cache = new ResponseBodyCache<>(
+        "districts", () -> snapshots.remove(0), objectMapper, Duration.ofHours(1)
+    );
+
+    // When
+    CachedResponseBody first = cache.get();
+    CachedResponseBody cached = cache.get();
+    cache.invalidate();
+    CachedResponseBody changed = cache.get();
+
+    // Then
+    assertThat(cached).isSameAs(first);
+    assertThat(changed.etag()).isNotEqualTo(first.etag());
+  }
+
+  @Test
+  @DisplayName("should serve the previous body when reloading fails")
+  void shouldServePreviousBodyOnFailure() {
+    // Given
+    AtomicInteger loads = new AtomicInteger();
+    ResponseBodyCache<List<CodeDescriptionDto>> cache = new ResponseBodyCache<>(
+        "districts",
+        () -> {
+          if (loads.incrementAndGet() > 1) {
+            throw new IllegalStateException("database is down");
+          }
+          return districts(3);
+        },
+        objectMapper,
+        Duration.ZERO
+    );
+    CachedResponseBody first = cache.get();
+
+    // When
+    CachedResponseBody second = cache.get();
+
+    // Then
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  @DisplayName("should wait for the retry interval before loading again after a failure")
+  void shouldThrottleReloadsAfterFailure() {
+    // Given
+    AtomicInteger loads = new AtomicInteger();
+    ResponseBodyCache<List<CodeDescriptionDto>> cache = new ResponseBodyCache<>(
+        "districts",
+        () -> {
+          if (loads.incrementAndGet() > 1) {
+            throw new IllegalStateException("legacy is down");
+          }
+          return districts(3);
+        },
+        objectMapper,
+        Duration.ofHours(1)
+    );
+    CachedResponseBody first = cache.get();
+    cache.invalidate();
+
+    // When
+    CachedResponseBody failed = cache.get();
+    CachedResponseBody throttled = cache.get();
+
+    // Then
+    assertThat(failed).isSameAs(first);
+    assertThat(throttled).isSameAs(first);
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("should write gzip to clients accepting it and 304 to clients with the ETag")
+  void shouldNegotiateEncodingAndEtag() throws Exception {
+    // Given
+    CachedResponseBody body = CachedResponseBody.of(objectMapper, districts(23));
+    MockHttpServletRequest gzipRequest = new MockHttpServletRequest("GET", "/api/codes/districts");
+    gzipRequest.addHeader(HttpHeaders.ACCEPT_ENCODING, "br;q=1.0, gzip;q=0.8");
+    MockHttpServletRequest plainRequest = new MockHttpServletRequest("GET", "/api/codes/districts");
+    plainRequest.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0");
+    MockHttpServletRequest cachedRequest =
+        new MockHttpServletRequest("GET", "/api/codes/districts");
+    cachedRequest.addHeader(HttpHeaders.IF_NONE_MATCH, body.etag());
+    MockHttpServletResponse gzipResponse = new MockHttpServletResponse();
+    MockHttpServletResponse plainResponse = new MockHttpServletResponse();
+    MockHttpServletResponse cachedResponse = new MockHttpServletResponse();
+
+    // When
+    body.writeTo(gzipRequest, gzipResponse);
+    body.writeTo(plainRequest, plainResponse);
+    body.writeTo(cachedRequest, cachedResponse);
+
+    // Then
+    String json = objectMapper.writeValueAsString(districts(23));
+    assertThat(gzipResponse.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+    assertThat(gzipResponse.getHeader(HttpHeaders.ETAG)).isEqualTo(body.etag());
+    assertThat(gunzip(gzipResponse.getContentAsByteArray())).isEqualTo(json);
+    assertThat(plainResponse.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+    assertThat(plainResponse.getContentAsString()).isEqualTo(json);
+    assertThat(plainResponse.getContentLength()).isEqualTo(body.size());
+    assertThat(cachedResponse.getStatus()).isEqualTo(304);
+    assertThat(cachedResponse.getContentAsByteArray()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("should write a Smile body with the Smile content type")
+  void shouldWriteSmileBody() throws Exception {
+    // Given
+    ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+    CachedResponseBody body = CachedResponseBody.of(smileMapper, districts(23));
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // When
+    body.writeTo(new MockHttpServletRequest("GET", "/api/codes/districts"), response);
+
+    // Then
+    assertThat(response.getContentType()).isEqualTo(CachedResponseBody.SMILE_VALUE);
+    assertThat(smileMapper.readValue(
+        response.getContentAsByteArray(),
+        new TypeReference<List<CodeDescriptionDto>>() {
+        }
+    )).isEqualTo(districts(23));
+    assertThat(body.etag())
+        .isNotEqualTo(CachedResponseBody.of(objectMapper, districts(23)).etag());
+  }
+
+  private static List<CodeDescriptionDto> districts(int count) {
+    return IntStream
+        .range(0, count)
+        .mapToObj(index -> new CodeDescriptionDto("D" + index, "District " + index))
+        .toList();
+  }
+
+  private static String gunzip(byte[] body) throws Exception {
+    try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(body))) {
+      return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+}
@@ -0,0 +1,123 @@
+package ca.bc.gov.nrs.hrs.configuration;
+
+import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * JMH comparison of the stock mapper and the one tuned by {@link JacksonConfiguration}, on the
+ * payloads the backend handles most: the district list, a preferences document and the district
+ * list read back from legacy.
+ *
+ * <p>Run it through {@code JacksonBenchmarkTest} with {@code -Djmh=true}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonBenchmark {
+
+  private static final TypeReference<List<CodeDescriptionDto>> DISTRICTS =
+      new TypeReference<>() {
+      };
+
+  /**
+   * Which mapper to measure: {@code stock} as Spring Boot builds it, or {@code tuned}.
+   */
+  @Param({"stock", "tuned"})
+  public String mapper;
+
+  private ObjectMapper objectMapper;
+  private List<CodeDescriptionDto> districts;
+  private Map<String, Object> preferences;
+  private byte[] districtsJson;
+
+  /**
+   * Builds the mapper and the payloads.
+   *
+   * @throws IOException when the district list cannot be written
+   */
+  @Setup
+  public void setUp() throws IOException {
+    objectMapper = build(mapper);
+    districts = IntStream
+        .range(0, 23)
+        .mapToObj(index ->
+            new CodeDescriptionDto("D" + index, "Natural Resource District " + index)
+        )
+        .toList();
+    preferences = new LinkedHashMap<>();
+    preferences.put("theme", "dark");
+    preferences.put("itemsPerPage", 20);
+    preferences.put("notifications", true);
+    preferences.put("selectedDistrict", "DCK");
+    preferences.put("columns", List.of("code", "name", "status", "district", "updated"));
+    preferences.put("layout", Map.of("sidebar", "collapsed", "density", "compact"));
+    districtsJson = objectMapper.writeValueAsBytes(districts);
+  }
+
+  static ObjectMapper build(String mapper) {
+    Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+    if ("tuned".equals(mapper)) {
+      new JacksonConfiguration().jacksonPerformanceCustomizer().customize(builder);
+    }
+    return builder.build();
+  }
+
+  @Benchmark
+  public byte[] writeDistricts() throws IOException {
+    return objectMapper.writeValueAsBytes(districts);
+  }
+
+  @Benchmark
+  public byte[] writePreferences() throws IOException {
+    return objectMapper.writeValueAsBytes(preferences);
+  }
+
+  /**
+   * Writes the district list on a new virtual thread, as a hedged legacy call or a preference
+   * event does, where a thread-local buffer pool starts empty every time.
+   *
+   * @return the JSON bytes
+   * @throws Exception when the thread is interrupted or the list cannot be written
+   */
+  @Benchmark
+  public byte[] writeDistrictsOnVirtualThread() throws Exception {
+    byte[][] json = new byte[1][];
+    Thread thread = Thread.ofVirtual().start(() -> {
+      try {
+        json[0] = objectMapper.writeValueAsBytes(districts);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+    thread.join();
+    return json[0];
+  }
+
+  @Benchmark
+  public List<CodeDescriptionDto> readDistricts() throws IOException {
+    return objectMapper.readValue(districtsJson, DISTRICTS);
+  }
+}
@@ -0,0 +1,61 @@
+package ca.bc.gov.nrs.hrs.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+@Slf4j
+@DisplayName("Unit Test | Jackson benchmark")
+class JacksonBenchmarkTest {
+
+  @Test
+  @DisplayName("Tuned mapper writes and reads the same JSON as the stock one")
+  void shouldWriteSameJson() throws Exception {
+    ObjectMapper stock = JacksonBenchmark.build("stock");
+    ObjectMapper tuned = JacksonBenchmark.build("tuned");
+    List<CodeDescriptionDto> districts = List.of(
+        new CodeDescriptionDto("DCK", "Chilliwack"),
+        new CodeDescriptionDto("DSQ", "Sea to Sky")
+    );
+    Map<String, Object> preferences = Map.of("theme", "dark", "itemsPerPage", 20);
+
+    assertThat(tuned.writeValueAsString(districts)).isEqualTo(stock.writeValueAsString(districts));
+    assertThat(tuned.writeValueAsString(preferences))
+        .isEqualTo(stock.writeValueAsString(preferences));
+    assertThat(tuned.readValue(
+        stock.writeValueAsBytes(districts),
+        new TypeReference<List<CodeDescriptionDto>>() {
+        }
+    )).isEqualTo(districts);
+  }
+
+  @Test
+  @EnabledIfSystemProperty(named = "jmh", matches = "true")
+  @DisplayName("Run the JMH comparison")
+  void shouldRunBenchmark() throws Exception {
+    Collection<RunResult> results = new Runner(
+        new OptionsBuilder()
+            .include(JacksonBenchmark.class.getName())
+            .build()
+    ).run();
+
+    results.forEach(result -> log.info("{} {}: {} ns/op",
+        result.getParams().getBenchmark(),
+        result.getParams().getParam("mapper"),
+        Math.round(result.getPrimaryResult().getScore())
+    ));
+    assertThat(results).hasSize(8);
+  }
+}
@@ -1,16 +1,26 @@
 package ca.bc.gov.nrs.hrs.controller;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
 import static org.springframework.boot.test.autoconfigure.web.servlet.MockMvcPrint.SYSTEM_OUT;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.context.TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import ca.bc.gov.nrs.hrs.entity.users.UserPreferenceEntity;
 import ca.bc.gov.nrs.hrs.extensions.AbstractTestContainerIntegrationTest;
 import ca.bc.gov.nrs.hrs.extensions.WithMockJwt;
+import ca.bc.gov.nrs.hrs.repository.UserPreferenceRepository;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
@@ -18,6 +28,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.test.context.TestExecutionListeners;
@@ -40,6 +51,9 @@ class UserControllerIntegrationTest extends AbstractTestContainerIntegrationTest
   @Autowired
   private MockMvc mockMvc;
 
+  @Autowired
+  private UserPreferenceRepository preferenceRepository;
+
   @Test
   @DisplayName("Get user preferences when none exist should return empty map")
   @Order(1)
@@ -94,4 +108,281 @@ class UserControllerIntegrationTest extends AbstractTestContainerIntegrationTest
         .andReturn();
   }
 
-}
\ No newline at end of file
+  @Test
+  @DisplayName("Get selected user preferences should return only the requested keys")
+  @Order(4)
+  void getSelectedPreferences_shouldReturnOnlyRequestedKeys() throws Exception {
+    mockMvc
+        .perform(
+            get("/api/users/preferences")
+                .param("keys", "theme,itemsPerPage,missing")
+                .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+        .andExpect(jsonPath("$.length()").value(2))
+        .andExpect(jsonPath("$.theme").value("dark"))
+        .andExpect(jsonPath("$.itemsPerPage").value(20))
+        .andReturn();
+  }
+
+  @Test
+  @DisplayName("Get selected user preferences with unknown keys should return empty map")
+  @Order(5)
+  void getSelectedPreferences_withUnknownKeys_shouldReturnEmptyMap() throws Exception {
+    mockMvc
+        .perform(
+            get("/api/users/preferences")
+                .param("keys", "missing")
+                .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(0))
+        .andReturn();
+  }
+
+  @Test
+  @DisplayName("Get a single user preference should return its value")
+  @Order(6)
+  void getPreference_shouldReturnValue() throws Exception {
+    mockMvc
+        .perform(
+            get("/api/users/preferences/{key}", "notifications")
+                .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+        .andExpect(content().json("true"))
+        .andReturn();
+  }
+
+  @Test
+  @DisplayName("Get a missing user preference should return not found")
+  @Order(7)
+  void getPreference_whenMissing_shouldReturnNotFound() throws Exception {
+    mockMvc
+        .perform(
+            get("/api/users/preferences/{key}", "missing")
+                .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isNotFound())
+        .andReturn();
+  }
+
+  @Test
+  @DisplayName("User set preferences above the size limit should be rejected")
+  @Order(8)
+  void userSetPreferencesAboveLimit_shouldBeRejected() throws Exception {
+    String preferencesJson = "{\"filler\":\"" + "a".repeat(70_000) + "\"}";
+
+    mockMvc
+        .perform(
+            put("/api/users/preferences")
+                .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                .content(preferencesJson)
+                .accept(MediaType.APPLICATION_JSON)
+                .with(csrf()))
+        .andExpect(status().isPayloadTooLarge())
+        .andReturn();
+  }
+
+  @Test
+  @DisplayName("User set the preferences with a gzip body")
+  @Order(9)
+  void userSetThePreferencesWithGzipBody() throws Exception {
+    String preferencesJson = """
+        {
+          "theme": "light",
+          "notifications": true,
+          "itemsPerPage": 20
+        }""";
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+      gzip.write(preferencesJson.getBytes(StandardCharsets.UTF_8));
+    }
+
+    mockMvc
+        .perform(
+            put("/api/users/preferences")
+                .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .content(compressed.toByteArray())
+                .accept(MediaType.APPLICATION_JSON)
+                .with(csrf()))
+        .andExpect(status().isAccepted())
+        .andReturn();
+
+    mockMvc
+        .perform(
+            get("/api/users/preferences/{key}", "theme")
+                .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(content().json("\"light\""))
+        .andReturn();
+  }
+
+  @Test
+  @DisplayName("Get user preferences with the current ETag should return not modified")
+  @Order(10)
+  void getUserPreferences_withCurrentEtag_shouldReturnNotModified() throws Exception {
+    String etag = mockMvc
+        .perform(
+            get("/api/users/preferences")
+                .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, startsWith("W/\"")))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+        .andReturn()
+        .getResponse()
+        .getHeader(HttpHeaders.ETAG);
+
+    mockMvc
+        .perform(
+            get("/api/users/preferences")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, etag))
+        .andExpect(content().string(""))
+        .andReturn();
+
+    mockMvc
+        .perform(
+            get("/api/users/preferences/{key}", "theme")
+                .header(HttpHeaders.IF_NONE_MATCH, etag.substring(2))
+                .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isNotModified())
+        .andReturn();
+  }
+
+  @Test
+  @DisplayName("User set the preferences with If-Match should only apply to the current revision")
+  @Order(11)
+  void userSetThePreferencesWithIfMatch_shouldOnlyApplyToCurrentRevision() throws Exception {
+    String etag = mockMvc
+        .perform(
+            get("/api/users/preferences/{key}", "theme")
+                .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andReturn()
+        .getResponse()
+        .getHeader(HttpHeaders.ETAG);
+
+    String newEtag = mockMvc
+        .perform(
+            put("/api/users/preferences")
+                .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.IF_MATCH, etag)
+                .content("{\"theme\":\"dark\"}")
+                .accept(MediaType.APPLICATION_JSON)
+                .with(csrf()))
+        .andExpect(status().isAccepted())
+        .andExpect(header().exists(HttpHeaders.ETAG))
+        .andReturn()
+        .getResponse()
+        .getHeader(HttpHeaders.ETAG);
+
+    mockMvc
+        .perform(
+            put("/api/users/preferences")
+                .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.IF_MATCH, etag)
+                .content("{\"theme\":\"light\"}")
+                .accept(MediaType.APPLICATION_JSON)
+                .with(csrf()))
+        .andExpect(status().isPreconditionFailed())
+        .andReturn();
+
+    mockMvc
+        .perform(
+            get("/api/users/preferences/{key}", "theme")
+                .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, newEtag))
+        .andExpect(content().json("\"dark\""))
+        .andReturn();
+  }
+
+  @Test
+  @DisplayName("Open the preference stream should send the current revision")
+  @Order(12)
+  void streamPreferences_shouldSendCurrentRevision() throws Exception {
+    mockMvc
+        .perform(
+            get("/api/users/preferences/stream")
+                .accept(MediaType.TEXT_EVENT_STREAM))
+        .andExpect(request().asyncStarted())
+        .andExpect(content().string(containsString("event:revision")))
+        .andReturn();
+  }
+
+  @Test
+  @WithMockJwt("versioned")
+  @DisplayName("User set preferences saved through the entity with If-Match on revision 0")
+  @Order(13)
+  void userSetPreferencesSavedThroughEntity_withIfMatchOnFirstRevision() throws Exception {
+    preferenceRepository.save(
+        UserPreferenceEntity
+            .builder()
+            .userId("IDIR\\versioned")
+            .preferences(Map.of("theme", "dark"))
+            .build()
+    );
+
+    String etag = mockMvc
+        .perform(
+            get("/api/users/preferences")
+                .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "W/\"0\""))
+        .andReturn()
+        .getResponse()
+        .getHeader(HttpHeaders.ETAG);
+
+    mockMvc
+        .perform(
+            put("/api/users/preferences")
+                .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.IF_MATCH, "\"7\"")
+                .content("{\"theme\":\"light\"}")
+                .accept(MediaType.APPLICATION_JSON)
+                .with(csrf()))
+        .andExpect(status().isPreconditionFailed())
+        .andReturn();
+
+    mockMvc
+        .perform(
+            put("/api/users/preferences")
+                .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.IF_MATCH, etag.substring(2))
+                .content("{\"theme\":\"light\"}")
+                .accept(MediaType.APPLICATION_JSON)
+                .with(csrf()))
+        .andExpect(status().isAccepted())
+        .andExpect(header().string(HttpHeaders.ETAG, "W/\"1\""))
+        .andReturn();
+  }
+
+  @Test
+  @WithMockJwt("newcomer")
+  @DisplayName("User set preferences with If-Match any should not create them")
+  @Order(14)
+  void userSetPreferencesWithIfMatchAny_shouldNotCreateThem() throws Exception {
+    mockMvc
+        .perform(
+            put("/api/users/preferences")
+                .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.IF_MATCH, "*")
+                .content("{\"theme\":\"dark\"}")
+                .accept(MediaType.APPLICATION_JSON)
+                .with(csrf()))
+        .andExpect(status().isPreconditionFailed())
+        .andReturn();
+
+    mockMvc
+        .perform(
+            get("/api/users/preferences")
+                .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+        .andExpect(jsonPath("$.length()").value(0))
+        .andReturn();
+  }
+
+}
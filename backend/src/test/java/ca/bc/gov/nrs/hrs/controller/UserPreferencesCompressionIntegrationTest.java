@@ -0,0 +1,105 @@
+package ca.bc.gov.nrs.hrs.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import ca.bc.gov.nrs.hrs.entity.users.UserPreferenceEntity;
+import ca.bc.gov.nrs.hrs.extensions.AbstractTestContainerIntegrationTest;
+import ca.bc.gov.nrs.hrs.repository.UserPreferenceRepository;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@DisplayName("Integrated Test | User Preferences Compression")
+class UserPreferencesCompressionIntegrationTest extends AbstractTestContainerIntegrationTest {
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private UserPreferenceRepository preferenceRepository;
+
+  @MockitoBean
+  private JwtDecoder jwtDecoder;
+
+  private final HttpClient client = HttpClient
+      .newBuilder()
+      .version(HttpClient.Version.HTTP_1_1)
+      .build();
+
+  @Test
+  @DisplayName("Get user preferences above the compression threshold should be gzipped")
+  void getUserPreferences_aboveThreshold_shouldBeGzipped() throws Exception {
+    // Given
+    when(jwtDecoder.decode(anyString())).thenReturn(jwt("compressed"));
+    preferenceRepository.save(
+        UserPreferenceEntity
+            .builder()
+            .userId("IDIR\\compressed")
+            .preferences(Map.of(
+                "theme", "dark",
+                "columns", IntStream
+                    .range(0, 100)
+                    .mapToObj(index -> Map.of("field", "column" + index, "visible", true))
+                    .toList()
+            ))
+            .build()
+    );
+
+    // When
+    HttpResponse<InputStream> response = client.send(
+        HttpRequest
+            .newBuilder(URI.create("http://localhost:" + port + "/api/users/preferences"))
+            .header(HttpHeaders.AUTHORIZATION, "Bearer token")
+            .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+            .GET()
+            .build(),
+        HttpResponse.BodyHandlers.ofInputStream()
+    );
+
+    // Then
+    assertThat(response.statusCode()).isEqualTo(200);
+    assertThat(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).contains("gzip");
+    assertThat(response.headers().firstValue(HttpHeaders.ETAG)).hasValue("W/\"0\"");
+    String body = gunzip(response.body());
+    assertThat(body.length()).isGreaterThan(2048);
+    assertThat(body).contains("\"column99\"");
+  }
+
+  private static Jwt jwt(String username) {
+    return Jwt
+        .withTokenValue("token")
+        .header("alg", "none")
+        .claim("sub", username)
+        .claim("cognito:groups", List.of())
+        .claim("custom:idp_name", "idir")
+        .claim("custom:idp_username", username)
+        .claim("email", username + "@test.ca")
+        .build();
+  }
+
+  private static String gunzip(InputStream body) throws IOException {
+    try (InputStream input = new GZIPInputStream(body)) {
+      return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+}
@@ -0,0 +1,138 @@
+package ca.bc.gov.nrs.hrs.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration.PreferencesConfiguration;
+import ca.bc.gov.nrs.hrs.exception.PreferencesTooLargeException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.unit.DataSize;
+
+@DisplayName("Unit Test | Preferences Request Filter")
+class PreferencesRequestFilterTest {
+
+  private final PreferencesRequestFilter filter = new PreferencesRequestFilter(
+      ApplicationConfiguration
+          .builder()
+          .preferences(
+              PreferencesConfiguration
+                  .builder()
+                  .maxSize(DataSize.ofBytes(64))
+                  .build()
+          )
+          .build(),
+      new ObjectMapper()
+  );
+
+  @Test
+  @DisplayName("should decompress a gzip body")
+  void shouldDecompressGzipBody() throws Exception {
+    // Given
+    String json = "{\"theme\":\"dark\"}";
+    MockHttpServletRequest request = request(gzip(json));
+    request.addHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+    AtomicReference<String> body = new AtomicReference<>();
+
+    // When
+    filter.doFilter(request, new MockHttpServletResponse(), (req, res) ->
+        body.set(StreamUtils.copyToString(req.getInputStream(), StandardCharsets.UTF_8))
+    );
+
+    // Then
+    assertThat(body).hasValue(json);
+  }
+
+  @Test
+  @DisplayName("should reject a body declared above the limit before reading it")
+  void shouldRejectLargeContentLength() throws Exception {
+    // Given
+    MockHttpServletRequest request = request(new byte[65]);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain chain = new MockFilterChain();
+
+    // When
+    filter.doFilter(request, response, chain);
+
+    // Then
+    assertThat(response.getStatus()).isEqualTo(413);
+    assertThat(response.getContentType()).isEqualTo("application/problem+json");
+    assertThat(chain.getRequest()).isNull();
+  }
+
+  @Test
+  @DisplayName("should stop reading a compressed body once it expands above the limit")
+  void shouldStopReadingLargeCompressedBody() throws Exception {
+    // Given a small gzip body that expands well above the limit
+    byte[] compressed = gzip("{\"filler\":\"" + "a".repeat(10_000) + "\"}");
+    MockHttpServletRequest request = request(compressed);
+    request.addHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+    assertThat(compressed.length).isLessThan(64);
+
+    // When / Then
+    assertThatThrownBy(() ->
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) ->
+            StreamUtils.drain(req.getInputStream())
+        )
+    ).isInstanceOf(PreferencesTooLargeException.class);
+  }
+
+  @Test
+  @DisplayName("should reject an unsupported content encoding")
+  void shouldRejectUnsupportedEncoding() throws Exception {
+    // Given
+    MockHttpServletRequest request = request("{}".getBytes(StandardCharsets.UTF_8));
+    request.addHeader(HttpHeaders.CONTENT_ENCODING, "br");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // When
+    filter.doFilter(request, response, new MockFilterChain());
+
+    // Then
+    assertThat(response.getStatus()).isEqualTo(415);
+  }
+
+  @Test
+  @DisplayName("should ignore reads of the preferences")
+  void shouldIgnoreReads() throws Exception {
+    // Given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/preferences");
+    request.setRequestURI("/api/users/preferences");
+    request.addHeader(HttpHeaders.CONTENT_ENCODING, "br");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // When
+    filter.doFilter(request, response, new MockFilterChain());
+
+    // Then
+    assertThat(response.getStatus()).isEqualTo(200);
+  }
+
+  private static MockHttpServletRequest request(byte[] body) {
+    MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/api/users/preferences");
+    request.setRequestURI("/api/users/preferences");
+    request.setContentType("application/json");
+    request.setContent(body);
+    return request;
+  }
+
+  private static byte[] gzip(String value) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+      gzip.write(value.getBytes(StandardCharsets.UTF_8));
+    }
+    return output.toByteArray();
+  }
+}
@@ -0,0 +1,94 @@
+package ca.bc.gov.nrs.hrs.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration.RateLimitConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration.RateLimitConfiguration.RateLimit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test | Rate Limiter")
+class RateLimiterTest {
+
+  private static final String CODES = "/api/codes/districts";
+  private static final String SEARCH = "/api/search/reporting-units";
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+  @Test
+  @DisplayName("should allow a burst and then reject until a token is added")
+  void shouldRejectAboveBurst() {
+    // Given
+    RateLimiter limiter = limiter(100);
+
+    // When
+    long[] waits = new long[4];
+    for (int i = 0; i < waits.length; i++) {
+      waits[i] = limiter.tryAcquire("user", CODES);
+    }
+
+    // Then
+    assertThat(waits[0]).isZero();
+    assertThat(waits[1]).isZero();
+    assertThat(waits[2]).isZero();
+    assertThat(waits[3]).isPositive().isLessThanOrEqualTo(Duration.ofSeconds(1).toNanos());
+    assertThat(registry.get("hrs.ratelimit.rejected").tag("route", CODES).counter().count())
+        .isEqualTo(1d);
+  }
+
+  @Test
+  @DisplayName("should keep separate buckets per user and apply route limits")
+  void shouldSeparateUsersAndRoutes() {
+    // Given
+    RateLimiter limiter = limiter(100);
+
+    // When a user exhausts the search route
+    assertThat(limiter.tryAcquire("user", SEARCH)).isZero();
+    long searchWait = limiter.tryAcquire("user", SEARCH);
+
+    // Then other users and other routes are not affected
+    assertThat(searchWait).isPositive();
+    assertThat(limiter.tryAcquire("other", SEARCH)).isZero();
+    assertThat(limiter.tryAcquire("user", CODES)).isZero();
+  }
+
+  @Test
+  @DisplayName("should drop full buckets and stop tracking when the map is full")
+  void shouldBoundBuckets() {
+    // Given
+    RateLimiter limiter = limiter(2);
+    limiter.tryAcquire("first", CODES);
+    limiter.tryAcquire("second", CODES);
+
+    // When the map is full of recently used buckets
+    long wait = limiter.tryAcquire("third", CODES);
+
+    // Then the new user is let through untracked
+    assertThat(wait).isZero();
+    assertThat(registry.get("hrs.ratelimit.buckets").gauge().value()).isEqualTo(2d);
+    assertThat(registry.get("hrs.ratelimit.untracked").counter().count()).isEqualTo(1d);
+  }
+
+  private RateLimiter limiter(int maxBuckets) {
+    return new RateLimiter(configuration(1, maxBuckets), registry);
+  }
+
+  private static ApplicationConfiguration configuration(int permits, int maxBuckets) {
+    return ApplicationConfiguration
+        .builder()
+        .rateLimit(
+            RateLimitConfiguration
+                .builder()
+                .enabled(true)
+                .maxBuckets(maxBuckets)
+                .defaults(new RateLimit(permits, Duration.ofSeconds(1), 3))
+                .routes(Map.of(SEARCH, new RateLimit(1, Duration.ofSeconds(1), 1)))
+                .build()
+        )
+        .build();
+  }
+}
@@ -0,0 +1,115 @@
+package ca.bc.gov.nrs.hrs.health;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration.ConnectionPoolConfiguration;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test | Connection Pool Sizer")
+class ConnectionPoolSizerTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final HikariDataSource dataSource = mock(HikariDataSource.class);
+  private final HikariPoolMXBean pool = mock(HikariPoolMXBean.class);
+  private final HikariConfigMXBean poolConfig = mock(HikariConfigMXBean.class);
+
+  @BeforeEach
+  void setUp() throws Exception {
+    when(dataSource.unwrap(HikariDataSource.class)).thenReturn(dataSource);
+    when(dataSource.getHikariPoolMXBean()).thenReturn(pool);
+    when(dataSource.getHikariConfigMXBean()).thenReturn(poolConfig);
+    when(dataSource.getPoolName()).thenReturn("TestPool");
+    when(dataSource.getMinimumIdle()).thenReturn(1);
+    when(dataSource.getMaximumPoolSize()).thenReturn(3);
+  }
+
+  @Test
+  @DisplayName("should grow the pool when requests queue for a connection")
+  void shouldGrowWhenWaiting() throws Exception {
+    // Given
+    ConnectionPoolSizer sizer = sizer(true);
+    when(pool.getActiveConnections()).thenReturn(3);
+    when(pool.getThreadsAwaitingConnection()).thenReturn(2);
+
+    // When
+    sizer.sample();
+    sizer.sample();
+    sizer.evaluate();
+
+    // Then
+    verify(poolConfig).setMaximumPoolSize(5);
+    assertThat(sizer.report().recommendedSize()).isEqualTo(5);
+    assertThat(sizer.report().waitRatio()).isEqualTo(1d);
+    assertThat(registry.get("hikaricp.connections.recommended").gauge().value()).isEqualTo(5d);
+  }
+
+  @Test
+  @DisplayName("should never grow past the upper bound")
+  void shouldRespectUpperBound() throws Exception {
+    // Given
+    ConnectionPoolSizer sizer = sizer(true);
+    when(pool.getActiveConnections()).thenReturn(3);
+    when(pool.getThreadsAwaitingConnection()).thenReturn(20);
+
+    // When
+    sizer.sample();
+    sizer.evaluate();
+
+    // Then
+    verify(poolConfig).setMaximumPoolSize(6);
+  }
+
+  @Test
+  @DisplayName("should recommend a smaller pool without applying it when auto-resize is off")
+  void shouldOnlyRecommendShrink() throws Exception {
+    // Given
+    when(dataSource.getMaximumPoolSize()).thenReturn(6);
+    ConnectionPoolSizer sizer = sizer(false);
+    when(pool.getActiveConnections()).thenReturn(1);
+    when(pool.getThreadsAwaitingConnection()).thenReturn(0);
+
+    // When
+    sizer.sample();
+    sizer.evaluate();
+
+    // Then
+    verify(poolConfig, never()).setMaximumPoolSize(anyInt());
+    assertThat(sizer.report().currentSize()).isEqualTo(6);
+    assertThat(sizer.report().recommendedSize()).isEqualTo(2);
+    assertThat(sizer.report().peakActive()).isEqualTo(1);
+  }
+
+  private ConnectionPoolSizer sizer(boolean autoResize) throws Exception {
+    return new ConnectionPoolSizer(
+        dataSource,
+        ApplicationConfiguration
+            .builder()
+            .connectionPool(
+                ConnectionPoolConfiguration
+                    .builder()
+                    .autoResize(autoResize)
+                    .minSize(2)
+                    .maxSize(6)
+                    .growThreshold(0.05)
+                    .sampleInterval(Duration.ofSeconds(1))
+                    .evaluationInterval(Duration.ofMinutes(5))
+                    .build()
+            )
+            .build(),
+        registry
+    );
+  }
+}
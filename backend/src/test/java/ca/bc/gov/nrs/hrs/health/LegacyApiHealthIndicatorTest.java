@@ -0,0 +1,41 @@
+package ca.bc.gov.nrs.hrs.health;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+@DisplayName("Unit Test | Legacy API Health Indicator")
+class LegacyApiHealthIndicatorTest {
+
+  private final CircuitBreakerRegistry registry = CircuitBreakerRegistry.ofDefaults();
+  private final LegacyApiHealthIndicator indicator = new LegacyApiHealthIndicator(registry);
+
+  @Test
+  @DisplayName("should be up while the breaker is closed")
+  void shouldBeUpWhenClosed() {
+    // When
+    Health health = indicator.health();
+
+    // Then
+    assertThat(health.getStatus()).isEqualTo(Status.UP);
+    assertThat(health.getDetails()).containsEntry("circuitBreaker", "CLOSED");
+  }
+
+  @Test
+  @DisplayName("should be degraded, not down, while the breaker is open")
+  void shouldBeDegradedWhenOpen() {
+    // Given
+    registry.circuitBreaker("breaker").transitionToOpenState();
+
+    // When
+    Health health = indicator.health();
+
+    // Then
+    assertThat(health.getStatus()).isEqualTo(LegacyApiHealthIndicator.DEGRADED);
+    assertThat(health.getDetails()).containsEntry("circuitBreaker", "OPEN");
+  }
+}
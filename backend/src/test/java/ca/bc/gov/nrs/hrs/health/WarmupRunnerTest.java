@@ -0,0 +1,118 @@
+package ca.bc.gov.nrs.hrs.health;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration.WarmupConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.DefaultApplicationArguments;
+
+@DisplayName("Unit Test | Warm-up Runner")
+class WarmupRunnerTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final WarmupState state = new WarmupState();
+
+  @Test
+  @DisplayName("should skip the tasks when warm-up is disabled")
+  void shouldSkipWhenDisabled() {
+    // Given
+    AtomicInteger calls = new AtomicInteger();
+
+    // When
+    runner(false, Duration.ofSeconds(1), task("counter", calls::incrementAndGet)).run(arguments());
+
+    // Then
+    assertThat(calls).hasValue(0);
+    assertThat(state.isComplete()).isTrue();
+    assertThat(state.getDuration()).contains(Duration.ZERO);
+  }
+
+  @Test
+  @DisplayName("should run every task and record its outcome")
+  void shouldRunAllTasks() {
+    // Given
+    AtomicInteger calls = new AtomicInteger();
+
+    // When
+    runner(
+        true,
+        Duration.ofSeconds(5),
+        task("ok", calls::incrementAndGet),
+        task("broken", () -> {
+          throw new IllegalStateException("unreachable");
+        })
+    ).run(arguments());
+
+    // Then
+    assertThat(calls).hasValue(1);
+    assertThat(state.isComplete()).isTrue();
+    assertThat(registry.get("warmup.task").tags("task", "ok", "outcome", "success").timer()
+        .count()).isEqualTo(1);
+    assertThat(registry.get("warmup.task").tags("task", "broken", "outcome", "failure").timer()
+        .count()).isEqualTo(1);
+    assertThat(registry.get("warmup.duration").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should give up on tasks that exceed the time budget")
+  void shouldTimeOut() {
+    // Given
+    WarmupTask stuck = task("stuck", () -> Thread.sleep(Duration.ofSeconds(30)));
+
+    // When
+    long start = System.nanoTime();
+    runner(true, Duration.ofMillis(200), stuck).run(arguments());
+
+    // Then
+    assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+    assertThat(state.isComplete()).isTrue();
+    assertThat(registry.get("warmup.task").tags("task", "stuck", "outcome", "timeout").timer()
+        .count()).isEqualTo(1);
+  }
+
+  private WarmupRunner runner(boolean enabled, Duration timeout, WarmupTask... tasks) {
+    StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+    for (WarmupTask task : tasks) {
+      beanFactory.addBean(task.name(), task);
+    }
+    return new WarmupRunner(
+        beanFactory.getBeanProvider(WarmupTask.class),
+        ApplicationConfiguration
+            .builder()
+            .warmup(new WarmupConfiguration(enabled, timeout))
+            .build(),
+        registry,
+        state
+    );
+  }
+
+  private static DefaultApplicationArguments arguments() {
+    return new DefaultApplicationArguments();
+  }
+
+  private static WarmupTask task(String name, Work work) {
+    return new WarmupTask() {
+      @Override
+      public String name() {
+        return name;
+      }
+
+      @Override
+      public void warmUp() throws Exception {
+        work.run();
+      }
+    };
+  }
+
+  @FunctionalInterface
+  private interface Work {
+
+    void run() throws Exception;
+  }
+}
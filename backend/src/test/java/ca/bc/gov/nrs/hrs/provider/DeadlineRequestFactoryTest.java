@@ -0,0 +1,76 @@
+package ca.bc.gov.nrs.hrs.provider;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import ca.bc.gov.nrs.hrs.exception.DeadlineExceededException;
+import ca.bc.gov.nrs.hrs.filter.RequestDeadline;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.web.client.RestClient;
+
+@DisplayName("Unit Test | Deadline Request Factory")
+class DeadlineRequestFactoryTest {
+
+  @RegisterExtension
+  static WireMockExtension legacyStub = WireMockExtension
+      .newInstance()
+      .options(wireMockConfig().dynamicPort())
+      .build();
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private RestClient restClient;
+
+  @BeforeEach
+  void setUp() {
+    DeadlineForwarder deadline = new DeadlineForwarder(registry);
+    restClient = RestClient
+        .builder()
+        .baseUrl(legacyStub.baseUrl())
+        .requestFactory(new DeadlineRequestFactory(HttpClient.newHttpClient()))
+        .requestInitializer(deadline)
+        .requestInterceptor(deadline)
+        .build();
+    legacyStub.stubFor(get(urlEqualTo("/api/codes/districts"))
+        .willReturn(aResponse().withFixedDelay(1_000).withBody("[]")));
+  }
+
+  @Test
+  @DisplayName("should stop waiting for a slow call at the request deadline")
+  void shouldStopAtDeadline() {
+    // Given a client that already connected once
+    restClient.get().uri("/api/codes/districts").retrieve().toBodilessEntity();
+    long start = System.nanoTime();
+
+    // When / Then
+    try (RequestDeadline.Scope ignored = RequestDeadline.start(
+        Instant.now().plusMillis(200))) {
+      assertThatThrownBy(() -> restClient.get().uri("/api/codes/districts").retrieve()
+          .body(String.class))
+          .isInstanceOf(DeadlineExceededException.class);
+    }
+    assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(800));
+    assertThat(registry.get("legacy.api.deadline.exceeded").counter().count()).isEqualTo(1d);
+  }
+
+  @Test
+  @DisplayName("should not bound calls made outside a request")
+  void shouldNotBoundWithoutDeadline() {
+    // When
+    String body = restClient.get().uri("/api/codes/districts").retrieve().body(String.class);
+
+    // Then
+    assertThat(body).isEqualTo("[]");
+  }
+}
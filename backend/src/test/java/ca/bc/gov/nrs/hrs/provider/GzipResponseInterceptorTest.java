@@ -0,0 +1,118 @@
+package ca.bc.gov.nrs.hrs.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+@DisplayName("Unit Test | Gzip Response Interceptor")
+class GzipResponseInterceptorTest {
+
+  private static final String JSON = "[{\"code\":\"DCK\",\"description\":\"Chilliwack\"}]";
+
+  private final GzipResponseInterceptor interceptor = new GzipResponseInterceptor();
+
+  @Test
+  @DisplayName("should request gzip and decode an encoded response")
+  void shouldDecodeGzipResponse() throws IOException {
+    // Given
+    MockClientHttpRequest request = new MockClientHttpRequest(
+        HttpMethod.GET, URI.create("/api/codes/districts")
+    );
+    MockClientHttpResponse encoded = new MockClientHttpResponse(gzip(JSON), HttpStatus.OK);
+    encoded.getHeaders().set(HttpHeaders.CONTENT_ENCODING, "gzip");
+    encoded.getHeaders().setContentLength(42);
+
+    // When
+    ClientHttpResponse response = interceptor.intercept(request, new byte[0],
+        (req, body) -> encoded
+    );
+
+    // Then
+    assertThat(request.getHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING)).isEqualTo("gzip");
+    assertThat(response.getHeaders()).doesNotContainKeys(
+        HttpHeaders.CONTENT_ENCODING, HttpHeaders.CONTENT_LENGTH
+    );
+    assertThat(StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8))
+        .isEqualTo(JSON);
+  }
+
+  @Test
+  @DisplayName("should shrink a search page and decode it unchanged")
+  void shouldRoundTripSearchPage() throws IOException {
+    // Given a page of rows sharing the same keys, as legacy search results do
+    String page = IntStream
+        .range(0, 200)
+        .mapToObj(index -> String.format(
+            "{\"reportingUnitId\":%d,\"clientNumber\":\"%08d\",\"districtCode\":\"DCK\","
+                + "\"districtName\":\"Chilliwack Natural Resource District\","
+                + "\"statusCode\":\"%s\",\"submitter\":\"IDIR\\\\USER%d\"}",
+            1_000_000 + index, 100_000 + index * 7, index % 3 == 0 ? "SUB" : "APP", index % 5
+        ))
+        .collect(Collectors.joining(",", "{\"content\":[", "]}"));
+    byte[] compressed = gzip(page);
+    MockClientHttpRequest request = new MockClientHttpRequest(
+        HttpMethod.GET, URI.create("/api/codes/districts")
+    );
+    MockClientHttpResponse encoded = new MockClientHttpResponse(compressed, HttpStatus.OK);
+    encoded.getHeaders().set(HttpHeaders.CONTENT_ENCODING, "gzip");
+
+    // When
+    ClientHttpResponse response = interceptor.intercept(request, new byte[0],
+        (req, body) -> encoded
+    );
+
+    // Then repeated keys shrink the page to a small fraction of its size
+    assertThat(compressed.length).isLessThan(page.length() / 4);
+    assertThat(StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8))
+        .isEqualTo(page);
+  }
+
+  @Test
+  @DisplayName("should pass plain and empty responses through")
+  void shouldPassPlainResponses() throws IOException {
+    // Given
+    MockClientHttpRequest request = new MockClientHttpRequest(
+        HttpMethod.GET, URI.create("/api/codes/districts")
+    );
+    MockClientHttpResponse plain = new MockClientHttpResponse(
+        JSON.getBytes(StandardCharsets.UTF_8), HttpStatus.OK
+    );
+    MockClientHttpResponse empty = new MockClientHttpResponse(new byte[0], HttpStatus.NO_CONTENT);
+    empty.getHeaders().set(HttpHeaders.CONTENT_ENCODING, "gzip");
+
+    // When
+    ClientHttpResponse plainResponse = interceptor.intercept(request, new byte[0],
+        (req, body) -> plain
+    );
+    ClientHttpResponse emptyResponse = interceptor.intercept(request, new byte[0],
+        (req, body) -> empty
+    );
+
+    // Then
+    assertThat(plainResponse).isSameAs(plain);
+    assertThat(emptyResponse.getBody().read()).isEqualTo(-1);
+  }
+
+  private static byte[] gzip(String value) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+      gzip.write(value.getBytes(StandardCharsets.UTF_8));
+    }
+    return output.toByteArray();
+  }
+}
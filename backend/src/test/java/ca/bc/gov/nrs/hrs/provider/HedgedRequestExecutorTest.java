@@ -0,0 +1,217 @@
+package ca.bc.gov.nrs.hrs.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration.HedgingConfiguration;
+import ca.bc.gov.nrs.hrs.exception.DeadlineExceededException;
+import ca.bc.gov.nrs.hrs.filter.RequestDeadline;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test | Hedged Request Executor")
+class HedgedRequestExecutorTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private HedgedRequestExecutor executor;
+
+  @AfterEach
+  void tearDown() {
+    if (executor != null) {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  @DisplayName("should call directly when hedging is disabled")
+  void shouldCallDirectlyWhenDisabled() {
+    // Given
+    executor = executor(false, 1.0);
+    AtomicInteger calls = new AtomicInteger();
+
+    // When
+    String result = executor.execute("districts", () -> "call-" + calls.incrementAndGet());
+
+    // Then
+    assertThat(result).isEqualTo("call-1");
+    assertThat(calls).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("should stay on the caller thread while no hedge can fire")
+  void shouldRunOnCallerThread() {
+    // Given a latency window that is not warm yet
+    executor = executor(true, 1.0);
+    Thread caller = Thread.currentThread();
+
+    // When
+    Thread thread = executor.execute("districts", Thread::currentThread);
+
+    // Then
+    assertThat(thread).isSameAs(caller);
+  }
+
+  @Test
+  @DisplayName("should hedge a slow request and return the first answer")
+  void shouldHedgeSlowRequest() {
+    // Given a warmed-up latency window
+    executor = executor(true, 1.0);
+    warmUp();
+    AtomicInteger calls = new AtomicInteger();
+
+    // When the first attempt stalls
+    long start = System.nanoTime();
+    String result = executor.execute("districts", () -> {
+      if (calls.incrementAndGet() == 1) {
+        sleep(Duration.ofSeconds(5));
+        return "primary";
+      }
+      return "hedge";
+    });
+
+    // Then
+    assertThat(result).isEqualTo("hedge");
+    assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+    assertThat(registry.get("legacy.api.hedge.issued").counter().count()).isEqualTo(1d);
+    // The winner is counted right after it completes the result, on its own thread
+    assertThat(awaitCount("legacy.api.hedge.won")).isEqualTo(1d);
+  }
+
+  @Test
+  @DisplayName("should count the abandoned slow attempt in the latency window")
+  void shouldRecordAbandonedAttempt() {
+    // Given a warmed-up latency window
+    executor = executor(true, 1.0);
+    warmUp();
+
+    // When the hedge keeps winning against a stalled first attempt
+    for (int i = 0; i < 3; i++) {
+      AtomicInteger calls = new AtomicInteger();
+      executor.execute("districts", () -> {
+        if (calls.incrementAndGet() == 1) {
+          sleep(Duration.ofSeconds(5));
+          return "primary";
+        }
+        sleep(Duration.ofMillis(30));
+        return "hedge";
+      });
+    }
+
+    // Then the delay follows the stalled attempts, not only the hedges that beat them
+    assertThat(registry.get("legacy.api.hedge.delay").gauge().value()).isGreaterThan(40d);
+  }
+
+  @Test
+  @DisplayName("should not hedge when the hedge budget is exhausted")
+  void shouldNotHedgeWithoutBudget() {
+    // Given
+    executor = executor(true, 0.0);
+    warmUp();
+    AtomicInteger calls = new AtomicInteger();
+
+    // When
+    String result = executor.execute("districts", () -> {
+      calls.incrementAndGet();
+      sleep(Duration.ofMillis(200));
+      return "primary";
+    });
+
+    // Then
+    assertThat(result).isEqualTo("primary");
+    assertThat(calls).hasValue(1);
+    assertThat(registry.get("legacy.api.hedge.issued").counter().count()).isZero();
+  }
+
+  @Test
+  @DisplayName("should rethrow the failure when every attempt fails")
+  void shouldRethrowFailure() {
+    // Given
+    executor = executor(true, 1.0);
+    Supplier<String> failing = () -> {
+      throw new IllegalArgumentException("legacy is down");
+    };
+
+    // When / Then
+    assertThatThrownBy(() -> executor.execute("districts", failing))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("legacy is down");
+  }
+
+  @Test
+  @DisplayName("should abandon the request once the deadline passes")
+  void shouldAbandonAtDeadline() {
+    // Given a warmed-up latency window
+    executor = executor(true, 1.0);
+    warmUp();
+    AtomicInteger interrupted = new AtomicInteger();
+    Supplier<String> stalled = () -> {
+      try {
+        Thread.sleep(Duration.ofSeconds(5));
+      } catch (InterruptedException e) {
+        interrupted.incrementAndGet();
+      }
+      return "late";
+    };
+
+    // When / Then
+    long start = System.nanoTime();
+    try (RequestDeadline.Scope ignored = RequestDeadline.start(
+        Instant.now().plusMillis(100))) {
+      assertThatThrownBy(() -> executor.execute("districts", stalled))
+          .isInstanceOf(DeadlineExceededException.class);
+    }
+    assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+    assertThat(registry.get("legacy.api.deadline.exceeded").counter().count()).isEqualTo(1d);
+    assertThat(RequestDeadline.current()).isEmpty();
+  }
+
+  private HedgedRequestExecutor executor(boolean enabled, double maxRatio) {
+    return new HedgedRequestExecutor(
+        ApplicationConfiguration
+            .builder()
+            .hedging(
+                HedgingConfiguration
+                    .builder()
+                    .enabled(enabled)
+                    .percentile(0.95)
+                    .minDelay(Duration.ofMillis(20))
+                    .maxRatio(maxRatio)
+                    .windowSize(32)
+                    .minSamples(5)
+                    .build()
+            )
+            .build(),
+        registry
+    );
+  }
+
+  private double awaitCount(String counter) {
+    long giveUpAt = System.nanoTime() + Duration.ofSeconds(1).toNanos();
+    while (registry.get(counter).counter().count() == 0 && System.nanoTime() < giveUpAt) {
+      Thread.onSpinWait();
+    }
+    return registry.get(counter).counter().count();
+  }
+
+  private void warmUp() {
+    for (int i = 0; i < 10; i++) {
+      executor.execute("districts", () -> "warm");
+    }
+  }
+
+  private static void sleep(Duration duration) {
+    try {
+      Thread.sleep(duration);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+}
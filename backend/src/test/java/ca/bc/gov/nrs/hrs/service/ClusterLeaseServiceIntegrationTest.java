@@ -0,0 +1,97 @@
+package ca.bc.gov.nrs.hrs.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.nrs.hrs.extensions.AbstractTestContainerIntegrationTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DisplayName("Integrated Test | Cluster Lease Service")
+class ClusterLeaseServiceIntegrationTest extends AbstractTestContainerIntegrationTest {
+
+  @Autowired
+  private ClusterLeaseService leaseService;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private MeterRegistry registry;
+
+  @Test
+  @DisplayName("should run the task on one replica at a time")
+  void shouldRunOnOneReplicaAtATime() throws Exception {
+    // Given
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture<Optional<String>> leader = CompletableFuture.supplyAsync(() ->
+        leaseService.runExclusively("test-concurrent", () -> {
+          started.countDown();
+          await(release);
+          return "leader";
+        })
+    );
+    assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+    // When
+    Optional<String> follower = leaseService.runExclusively("test-concurrent", () -> "follower");
+    release.countDown();
+
+    // Then
+    assertThat(follower).isEmpty();
+    assertThat(leader.get(10, TimeUnit.SECONDS)).contains("leader");
+    assertThat(leaseService.runExclusively("test-concurrent", () -> "next")).contains("next");
+    assertThat(
+        registry
+            .get("hrs.cluster.leases")
+            .tag("lease", "test-concurrent")
+            .tag("outcome", "busy")
+            .counter()
+            .count()
+    ).isEqualTo(1d);
+  }
+
+  @Test
+  @DisplayName("should hand the lease over once the replica holding it lets it expire")
+  void shouldFailOverWhenLeaseExpires() {
+    // Given
+    jdbcTemplate.update(
+        "INSERT INTO hrs.cluster_lease (lease_name, holder, expires_date) "
+            + "VALUES (?, 'dead-replica', current_timestamp + interval '1 minute')",
+        "test-failover"
+    );
+    Optional<String> whileHeld = leaseService.runExclusively("test-failover", () -> "taken");
+
+    // When
+    jdbcTemplate.update(
+        "UPDATE hrs.cluster_lease SET expires_date = current_timestamp - interval '1 second' "
+            + "WHERE lease_name = ?",
+        "test-failover"
+    );
+    Optional<String> afterExpiry = leaseService.runExclusively("test-failover", () -> "taken");
+
+    // Then
+    assertThat(whileHeld).isEmpty();
+    assertThat(afterExpiry).contains("taken");
+    assertThat(
+        jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM hrs.cluster_lease WHERE lease_name = ?",
+            Integer.class,
+            "test-failover"
+        )
+    ).isZero();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
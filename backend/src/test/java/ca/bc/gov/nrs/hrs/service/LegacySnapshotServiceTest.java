@@ -0,0 +1,246 @@
+package ca.bc.gov.nrs.hrs.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
+import ca.bc.gov.nrs.hrs.entity.legacy.LegacySnapshotEntity;
+import ca.bc.gov.nrs.hrs.provider.LegacyApiConstants;
+import ca.bc.gov.nrs.hrs.provider.PostgresNotificationListener;
+import ca.bc.gov.nrs.hrs.repository.LegacySnapshotRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@DisplayName("Unit Test | Legacy Snapshot Service")
+class LegacySnapshotServiceTest {
+
+  private static final List<CodeDescriptionDto> DISTRICTS = List.of(
+      new CodeDescriptionDto("DCK", "Chilliwack"),
+      new CodeDescriptionDto("DPG", "Prince George")
+  );
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final LegacySnapshotRepository repository = mock(LegacySnapshotRepository.class);
+  private final ClusterLeaseService leaseService = mock(ClusterLeaseService.class);
+  private final PostgresNotificationListener listener = mock(PostgresNotificationListener.class);
+  private final PlatformTransactionManager transactionManager =
+      mock(PlatformTransactionManager.class);
+  private LegacySnapshotService service;
+
+  @BeforeEach
+  void setUp() {
+    when(repository.upsertSnapshot(anyString(), anyString(), anyString())).thenReturn(1);
+    service = new LegacySnapshotService(
+        repository,
+        leaseService,
+        objectMapper,
+        listener,
+        transactionManager,
+        registry
+    );
+  }
+
+  @Test
+  @DisplayName("should write a response only when it changes")
+  void shouldWriteOnlyChangedResponses() {
+    // When
+    service.save(LegacyApiConstants.DISTRICTS_SNAPSHOT, DISTRICTS);
+    service.save(LegacyApiConstants.DISTRICTS_SNAPSHOT, List.copyOf(DISTRICTS));
+    service.save(LegacyApiConstants.DISTRICTS_SNAPSHOT, DISTRICTS.subList(0, 1));
+
+    // Then
+    verify(repository, times(2)).upsertSnapshot(anyString(), anyString(), anyString());
+    verify(repository).markRefreshed(LegacyApiConstants.DISTRICTS_SNAPSHOT);
+    assertThat(registry.get("hrs.legacy.snapshots.writes").counter().count()).isEqualTo(2d);
+  }
+
+  @Test
+  @DisplayName("should roll back its own transaction and log when the write fails")
+  void shouldRollBackFailedWrite() {
+    // Given
+    when(repository.upsertSnapshot(anyString(), anyString(), anyString()))
+        .thenThrow(new DataAccessResourceFailureException("database is down"));
+
+    // When
+    service.save(LegacyApiConstants.DISTRICTS_SNAPSHOT, DISTRICTS);
+
+    // Then
+    verify(transactionManager).rollback(any());
+    verify(transactionManager, never()).commit(any());
+    assertThat(registry.get("hrs.legacy.snapshots.writes").counter().count()).isZero();
+  }
+
+  @Test
+  @DisplayName("should serve the saved response from memory")
+  void shouldServeSavedResponseFromMemory() {
+    // Given
+    service.save(LegacyApiConstants.DISTRICTS_SNAPSHOT, DISTRICTS);
+
+    // When
+    Optional<List<CodeDescriptionDto>> districts = service.find(
+        LegacyApiConstants.DISTRICTS_SNAPSHOT, LegacyApiConstants.DISTRICT_LIST
+    );
+
+    // Then
+    assertThat(districts).contains(DISTRICTS);
+    verify(repository, never()).findById(anyString());
+  }
+
+  @Test
+  @DisplayName("should read the response saved by another pod from the database once")
+  void shouldReadResponseFromDatabaseOnce() {
+    // Given
+    when(repository.findById(LegacyApiConstants.DISTRICTS_SNAPSHOT))
+        .thenReturn(Optional.of(entity(DISTRICTS)));
+
+    // When
+    service.find(LegacyApiConstants.DISTRICTS_SNAPSHOT, LegacyApiConstants.DISTRICT_LIST);
+    Optional<List<CodeDescriptionDto>> districts = service.find(
+        LegacyApiConstants.DISTRICTS_SNAPSHOT, LegacyApiConstants.DISTRICT_LIST
+    );
+
+    // Then
+    assertThat(districts).contains(DISTRICTS);
+    verify(repository, times(1)).findById(LegacyApiConstants.DISTRICTS_SNAPSHOT);
+  }
+
+  @Test
+  @DisplayName("should return nothing when the database is unavailable")
+  void shouldReturnNothingWhenDatabaseUnavailable() {
+    // Given
+    when(repository.findById(anyString()))
+        .thenThrow(new DataAccessResourceFailureException("database is down"));
+
+    // When
+    Optional<List<CodeDescriptionDto>> districts = service.find(
+        LegacyApiConstants.DISTRICTS_SNAPSHOT, LegacyApiConstants.DISTRICT_LIST
+    );
+
+    // Then
+    assertThat(districts).isEmpty();
+    assertThat(
+        registry.get("hrs.legacy.snapshots.reads").tag("source", "none").counter().count()
+    ).isEqualTo(1d);
+  }
+
+  @Test
+  @DisplayName("should serve the snapshot another replica refreshed without calling legacy")
+  void shouldServeSharedSnapshot() {
+    // Given
+    when(repository.findRefreshedSince(anyString(), anyDouble())).thenReturn(Optional.of(
+        entity(DISTRICTS)
+    ));
+    AtomicInteger calls = new AtomicInteger();
+
+    // When
+    List<CodeDescriptionDto> districts = service.refresh(
+        LegacyApiConstants.DISTRICTS_SNAPSHOT,
+        LegacyApiConstants.DISTRICT_LIST,
+        Duration.ofMinutes(10),
+        () -> {
+          calls.incrementAndGet();
+          return List.of();
+        }
+    );
+
+    // Then
+    assertThat(districts).isEqualTo(DISTRICTS);
+    assertThat(calls).hasValue(0);
+    verify(repository).findRefreshedSince(LegacyApiConstants.DISTRICTS_SNAPSHOT, 600d);
+    verify(leaseService, never()).runExclusively(anyString(), any());
+  }
+
+  @Test
+  @DisplayName("should serve the stale snapshot while another replica holds the lease")
+  void shouldServeStaleSnapshotWhileLeaseIsHeld() {
+    // Given
+    service.save(LegacyApiConstants.DISTRICTS_SNAPSHOT, DISTRICTS);
+    when(repository.findRefreshedSince(anyString(), anyDouble())).thenReturn(Optional.empty());
+    when(leaseService.runExclusively(anyString(), any())).thenReturn(Optional.empty());
+
+    // When
+    List<CodeDescriptionDto> districts = service.refresh(
+        LegacyApiConstants.DISTRICTS_SNAPSHOT,
+        LegacyApiConstants.DISTRICT_LIST,
+        Duration.ofMinutes(10),
+        List::of
+    );
+
+    // Then
+    assertThat(districts).isEqualTo(DISTRICTS);
+    verify(leaseService).runExclusively(eq("legacy-snapshot:districts"), any());
+  }
+
+  @Test
+  @DisplayName("should throw a failed call back without saving or serving a snapshot")
+  void shouldThrowFailedCallBack() {
+    // Given
+    service.save(LegacyApiConstants.DISTRICTS_SNAPSHOT, DISTRICTS);
+    when(repository.findRefreshedSince(anyString(), anyDouble())).thenReturn(Optional.empty());
+    when(leaseService.runExclusively(anyString(), any())).thenAnswer(invocation ->
+        Optional.ofNullable(invocation.<Supplier<?>>getArgument(1).get())
+    );
+
+    // When
+    Throwable thrown = catchThrowable(() -> service.refresh(
+        LegacyApiConstants.DISTRICTS_SNAPSHOT,
+        LegacyApiConstants.DISTRICT_LIST,
+        Duration.ofMinutes(10),
+        () -> {
+          throw new IllegalStateException("legacy is down");
+        }
+    ));
+
+    // Then
+    assertThat(thrown).isInstanceOf(IllegalStateException.class);
+    verify(repository, times(1)).upsertSnapshot(anyString(), anyString(), anyString());
+    verify(repository, never()).markRefreshed(anyString());
+  }
+
+  @Test
+  @DisplayName("should drop the snapshot and run the callbacks when another replica changes it")
+  void shouldRunCallbacksOnChange() {
+    // Given
+    AtomicInteger changes = new AtomicInteger();
+    service.onChange(LegacyApiConstants.DISTRICTS_SNAPSHOT, changes::incrementAndGet);
+    service.save(LegacyApiConstants.DISTRICTS_SNAPSHOT, DISTRICTS);
+
+    // When
+    service.onNotification(LegacyApiConstants.DISTRICTS_SNAPSHOT);
+    service.find(LegacyApiConstants.DISTRICTS_SNAPSHOT, LegacyApiConstants.DISTRICT_LIST);
+
+    // Then
+    assertThat(changes).hasValue(1);
+    verify(listener).listen(LegacySnapshotService.CHANNEL, service);
+    verify(repository).findById(LegacyApiConstants.DISTRICTS_SNAPSHOT);
+  }
+
+  private LegacySnapshotEntity entity(List<CodeDescriptionDto> districts) {
+    return LegacySnapshotEntity
+        .builder()
+        .key(LegacyApiConstants.DISTRICTS_SNAPSHOT)
+        .payload(objectMapper.valueToTree(districts))
+        .payloadHash("hash")
+        .build();
+  }
+}
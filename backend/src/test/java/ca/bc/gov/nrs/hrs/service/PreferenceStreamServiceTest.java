@@ -0,0 +1,152 @@
+package ca.bc.gov.nrs.hrs.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration.PreferencesConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration.PreferencesStreamConfiguration;
+import ca.bc.gov.nrs.hrs.exception.StreamLimitExceededException;
+import ca.bc.gov.nrs.hrs.provider.PostgresNotificationListener;
+import ca.bc.gov.nrs.hrs.repository.UserPreferenceRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@DisplayName("Unit Test | Preference Stream Service")
+class PreferenceStreamServiceTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final UserPreferenceRepository repository = mock(UserPreferenceRepository.class);
+  private final PostgresNotificationListener listener = mock(PostgresNotificationListener.class);
+  private PreferenceStreamService service;
+
+  @BeforeEach
+  void setUp() {
+    when(repository.findRevisionByUserId(anyString())).thenReturn(Optional.of(3L));
+    service = new PreferenceStreamService(
+        repository,
+        new ObjectMapper(),
+        ApplicationConfiguration
+            .builder()
+            .preferences(
+                PreferencesConfiguration
+                    .builder()
+                    .stream(
+                        PreferencesStreamConfiguration
+                            .builder()
+                            .enabled(true)
+                            .maxConnections(2)
+                            .heartbeat(Duration.ofSeconds(25))
+                            .timeout(Duration.ofMinutes(1))
+                            .build()
+                    )
+                    .build()
+            )
+            .build(),
+        listener,
+        registry
+    );
+  }
+
+  @AfterEach
+  void tearDown() {
+    service.shutdown();
+  }
+
+  @Test
+  @DisplayName("should listen to the preference change channel")
+  void shouldListenToChannel() {
+    verify(listener).listen(PreferenceStreamService.CHANNEL, service);
+  }
+
+  @Test
+  @DisplayName("should refuse streams above the pod limit")
+  void shouldRefuseAboveLimit() {
+    // Given
+    service.open("user-a");
+    service.open("user-b");
+
+    // When / Then
+    assertThatThrownBy(() -> service.open("user-c"))
+        .isInstanceOf(StreamLimitExceededException.class);
+    assertThat(registry.get("hrs.preferences.streams").gauge().value()).isEqualTo(2d);
+    assertThat(registry.get("hrs.preferences.streams.rejected").counter().count()).isEqualTo(1d);
+  }
+
+  @Test
+  @DisplayName("should free the slot of a stream that is gone on the next heartbeat")
+  void shouldFreeSlotOfClosedStream() throws InterruptedException {
+    // Given
+    SseEmitter emitter = service.open("user-a");
+    service.open("user-b");
+
+    // When
+    emitter.complete();
+    service.heartbeat();
+
+    // Then
+    awaitOpenStreams(1);
+    assertThat(service.open("user-c")).isNotNull();
+  }
+
+  @Test
+  @DisplayName("should read only the changed keys of users with an open stream")
+  void shouldReadChangedKeysOfOpenStreams() {
+    // Given
+    when(repository.findPreferencesByKeys(anyString(), anyCollection()))
+        .thenReturn(Optional.of("{\"theme\":\"dark\"}"));
+    service.open("user-a");
+
+    // When
+    service.onNotification(
+        "{\"userId\":\"user-b\",\"revision\":4,\"changed\":[\"theme\"],\"removed\":[]}"
+    );
+    service.onNotification(
+        "{\"userId\":\"user-a\",\"revision\":4,\"changed\":[\"theme\"],\"removed\":[\"layout\"]}"
+    );
+
+    // Then
+    verify(repository, timeout(1_000)).findPreferencesByKeys("user-a", List.of("theme"));
+    verify(repository, never()).findPreferencesByKeys(eq("user-b"), any());
+  }
+
+  @Test
+  @DisplayName("should ignore malformed notifications")
+  void shouldIgnoreMalformedNotifications() {
+    // Given
+    service.open("user-a");
+
+    // When
+    service.onNotification("not json");
+
+    // Then
+    verify(repository, never()).findPreferencesByKeys(anyString(), anyCollection());
+  }
+
+  private void awaitOpenStreams(double expected) throws InterruptedException {
+    for (int attempt = 0; attempt < 100; attempt++) {
+      if (registry.get("hrs.preferences.streams").gauge().value() == expected) {
+        return;
+      }
+      Thread.sleep(10);
+    }
+    assertThat(registry.get("hrs.preferences.streams").gauge().value()).isEqualTo(expected);
+  }
+}
@@ -0,0 +1,52 @@
+#!/usr/bin/env bash
+# Measures the startup time and first-request latency of a container image.
+#
+# Starts the image, polls /health/readiness until it answers 200 (time to ready) and then times one
+# call to the first non-health path in endpoints.txt, which still runs cold code paths. Used to
+# compare the native, JVM + AOT/CDS and plain JVM images. Pass the runtime environment as an env
+# file, and export PGO_TOKEN if that path needs a bearer token.
+#
+# Usage: pgo/startup.sh <image> [runs] [env-file]
+set -euo pipefail
+
+DIR="$(cd "$(dirname "$0")" && pwd)"
+IMAGE="${1:?image required}"
+RUNS="${2:-5}"
+ENV_FILE="${3:-}"
+PORT="${SERVER_PORT:-9090}"
+
+FIRST="$(grep -Ev '^\s*(#|$)' "$DIR/endpoints.txt" | grep -v '^/health' | head -n 1)"
+ENV_ARGS=(-e "SERVER_PORT=${PORT}")
+if [[ -n "$ENV_FILE" ]]; then
+  ENV_ARGS+=(--env-file "$ENV_FILE")
+fi
+AUTH=()
+if [[ -n "${PGO_TOKEN:-}" ]]; then
+  AUTH=(-H "Authorization: Bearer ${PGO_TOKEN}")
+fi
+
+now_ms() {
+  date +%s%3N
+}
+
+for run in $(seq "$RUNS"); do
+  START="$(now_ms)"
+  ID="$(docker run -d --rm --network host "${ENV_ARGS[@]}" "$IMAGE")"
+  trap 'docker stop "$ID" > /dev/null 2>&1 || true' EXIT
+
+  until curl -sf -o /dev/null "http://localhost:${PORT}/health/readiness"; do
+    if [[ -z "$(docker ps -q --filter "id=$ID")" ]]; then
+      echo "container exited before becoming ready" >&2
+      exit 1
+    fi
+    sleep 0.02
+  done
+  READY=$(( $(now_ms) - START ))
+
+  FIRST_REQUEST="$(curl -s "${AUTH[@]}" -o /dev/null -w '%{time_total}' "http://localhost:${PORT}${FIRST}")"
+
+  docker stop "$ID" > /dev/null
+  trap - EXIT
+  awk -v run="$run" -v ready="$READY" -v first="$FIRST_REQUEST" -v path="$FIRST" \
+    'BEGIN { printf "run %d: ready in %d ms, first %s in %.0f ms\n", run, ready, path, first * 1000 }'
+done
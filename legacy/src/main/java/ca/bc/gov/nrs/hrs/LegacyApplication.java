@@ -6,13 +6,15 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import org.springframework.data.web.config.EnableSpringDataWebSupport;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Bootstrap class for the legacy HRS Spring Boot application.
  *
  * <p>This class contains the application's main method and configuration-level annotations.
- * AspectJ proxying is enabled and Spring Data Web support is configured to serialize pages via
- * DTOs (see {@code VIA_DTO}).</p>
+ * AspectJ proxying is enabled, Spring Data Web support is configured to serialize pages via
+ * DTOs (see {@code VIA_DTO}) and scheduling is enabled for periodic operational tasks such as
+ * connection pool sizing.</p>
  *
  * <p>Keep this class small: it is only intended as the application entrypoint and to hold
  * a minimal set of framework annotations.</p>
@@ -20,6 +22,7 @@ import org.springframework.data.web.config.EnableSpringDataWebSupport;
 @SpringBootApplication
 @EnableAspectJAutoProxy(proxyTargetClass = true)
 @EnableSpringDataWebSupport(pageSerializationMode = VIA_DTO)
+@EnableScheduling
 public class LegacyApplication {
 
   /**
@@ -0,0 +1,159 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Enumeration;
+import java.util.zip.GZIPOutputStream;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * A response body encoded once and written as is on every request.
+ *
+ * <p>Holds the encoded bytes, their gzip encoding and an ETag computed from the bytes. The body
+ * is JSON, or Smile when the mapper writes Smile, and is sent with the matching content type.
+ * Writing it copies the bytes to the servlet output stream, so serving it costs no serialization
+ * and no allocation proportional to the body. The gzip variant is only kept when it is smaller
+ * than the body, and is sent to clients that accept it. The ETag is weak because both encodings
+ * share it.</p>
+ *
+ * <p>Instances are immutable; the arrays are never exposed.</p>
+ */
+public final class CachedResponseBody {
+
+  /**
+   * Media type of the Smile binary JSON format, as a string.
+   */
+  public static final String SMILE_VALUE = "application/x-jackson-smile";
+
+  /**
+   * Media type of the Smile binary JSON format.
+   */
+  public static final MediaType SMILE = MediaType.valueOf(SMILE_VALUE);
+
+  private static final String GZIP = "gzip";
+
+  private final byte[] encoded;
+  private final byte[] gzip;
+  private final String etag;
+  private final String contentType;
+
+  private CachedResponseBody(byte[] encoded, byte[] gzip, String etag, String contentType) {
+    this.encoded = encoded;
+    this.gzip = gzip;
+    this.etag = etag;
+    this.contentType = contentType;
+  }
+
+  /**
+   * Encodes a value with the mapper, and as gzip when it saves space.
+   *
+   * @param objectMapper the mapper used to write the value, writing JSON or Smile
+   * @param value        the value to encode
+   * @return the encoded body
+   * @throws IllegalArgumentException when the value cannot be written
+   */
+  public static CachedResponseBody of(ObjectMapper objectMapper, Object value) {
+    byte[] encoded;
+    try {
+      encoded = objectMapper.writeValueAsBytes(value);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Response body cannot be written", e);
+    }
+    byte[] compressed = compress(encoded);
+    return new CachedResponseBody(
+        encoded,
+        compressed.length < encoded.length ? compressed : null,
+        "W/\"" + DigestUtils.md5DigestAsHex(encoded) + "\"",
+        objectMapper.getFactory() instanceof SmileFactory
+            ? SMILE_VALUE
+            : MediaType.APPLICATION_JSON_VALUE
+    );
+  }
+
+  /**
+   * The ETag of the body, computed from its encoded form.
+   *
+   * @return the weak ETag, quoted
+   */
+  public String etag() {
+    return etag;
+  }
+
+  /**
+   * Size of the encoded body, before gzip.
+   *
+   * @return the size in bytes
+   */
+  public int size() {
+    return encoded.length;
+  }
+
+  /**
+   * Writes the body to the response, or a 304 when the client's copy has the same ETag.
+   *
+   * @param request  the current request, used for {@code If-None-Match} and
+   *                 {@code Accept-Encoding}
+   * @param response the response to write to
+   * @throws IOException when the response cannot be written
+   */
+  public void writeTo(HttpServletRequest request, HttpServletResponse response)
+      throws IOException {
+    response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+      return;
+    }
+
+    byte[] body = encoded;
+    if (gzip != null && acceptsGzip(request)) {
+      response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+      body = gzip;
+    }
+    response.setContentType(contentType);
+    response.setContentLength(body.length);
+    response.getOutputStream().write(body);
+  }
+
+  private static boolean acceptsGzip(HttpServletRequest request) {
+    Enumeration<String> headers = request.getHeaders(HttpHeaders.ACCEPT_ENCODING);
+    while (headers != null && headers.hasMoreElements()) {
+      for (String coding : headers.nextElement().split(",")) {
+        String[] parts = coding.split(";");
+        if (GZIP.equalsIgnoreCase(parts[0].trim()) && !isRejected(parts)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private static boolean isRejected(String[] parts) {
+    for (int index = 1; index < parts.length; index++) {
+      String parameter = parts[index].trim();
+      if (parameter.regionMatches(true, 0, "q=", 0, 2)
+          && NumberUtils.toDouble(parameter.substring(2), 1d) == 0d) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static byte[] compress(byte[] encoded) {
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream(encoded.length / 2 + 32);
+    try (GZIPOutputStream gzipStream = new GZIPOutputStream(compressed)) {
+      gzipStream.write(encoded);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return compressed.toByteArray();
+  }
+}
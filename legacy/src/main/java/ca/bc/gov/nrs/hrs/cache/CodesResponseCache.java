@@ -0,0 +1,97 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration.ResponseCacheConfiguration;
+import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
+import ca.bc.gov.nrs.hrs.service.codes.DistrictService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Encoded response bodies of the code lists.
+ *
+ * <p>The lists are loaded through their read-only services, so each reload runs the same query
+ * and mapping as before, and only then compared with the cached snapshot. The district list is
+ * also loaded again as soon as the {@link ReferenceDataWatcher} reports a change to the org-unit
+ * table.</p>
+ *
+ * <p>The district list is kept as JSON and as Smile, the format the backend asks for. Each form
+ * is loaded on its first request, so a service only ever called by the backend does not load
+ * the JSON form at all.</p>
+ */
+@Component
+public class CodesResponseCache {
+
+  private static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+
+  private final ResponseBodyCache<List<CodeDescriptionDto>> districts;
+  private final ResponseBodyCache<List<CodeDescriptionDto>> smileDistricts;
+
+  /**
+   * Creates the caches of the code lists.
+   *
+   * @param districtService the service loading the district list
+   * @param objectMapper    the mapper used to encode the lists as JSON
+   * @param smileConverter  the converter holding the mapper used to encode the lists as Smile
+   * @param configuration   the application configuration holding the time to live
+   */
+  public CodesResponseCache(
+      DistrictService districtService,
+      ObjectMapper objectMapper,
+      MappingJackson2SmileHttpMessageConverter smileConverter,
+      ApplicationConfiguration configuration
+  ) {
+    Duration ttl = Optional
+        .ofNullable(configuration.getResponseCache())
+        .map(ResponseCacheConfiguration::getTtl)
+        .orElse(DEFAULT_TTL);
+    this.districts = new ResponseBodyCache<>(
+        "district codes",
+        districtService::findAllOrgUnits,
+        objectMapper,
+        ttl
+    );
+    this.smileDistricts = new ResponseBodyCache<>(
+        "district codes as Smile",
+        districtService::findAllOrgUnits,
+        smileConverter.getObjectMapper(),
+        ttl
+    );
+  }
+
+  /**
+   * The district code list encoded as JSON.
+   *
+   * @return the encoded body
+   */
+  public CachedResponseBody districts() {
+    return districts.get();
+  }
+
+  /**
+   * The district code list encoded as Smile.
+   *
+   * @return the encoded body
+   */
+  public CachedResponseBody smileDistricts() {
+    return smileDistricts.get();
+  }
+
+  /**
+   * Expires the district list when the org-unit table changed.
+   *
+   * @param event the change event
+   */
+  @EventListener
+  public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+    if (ReferenceDataWatcher.ORG_UNIT.equals(event.table())) {
+      districts.invalidate();
+      smileDistricts.invalidate();
+    }
+  }
+}
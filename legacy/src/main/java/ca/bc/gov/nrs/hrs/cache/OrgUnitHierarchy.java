@@ -0,0 +1,221 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+import ca.bc.gov.nrs.hrs.dto.base.OrgUnitDto;
+import ca.bc.gov.nrs.hrs.entity.codes.OrgUnitEntity;
+import ca.bc.gov.nrs.hrs.exception.OrgUnitNotFoundException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Immutable in-memory index of the organization units and their region, district and office
+ * relationships.
+ *
+ * <p>Units are addressed by their position in an array sorted by {@code ORG_UNIT_NO}, found by
+ * binary search, so the index holds primitive arrays instead of boxed maps. The parent of a unit
+ * is its rollup district, or its rollup region when the unit is a district itself. Children,
+ * ancestors and descendants of every unit are computed once when the index is built, so a
+ * question such as "all offices in a region" is a lookup and a date filter.</p>
+ *
+ * <p>Results are filtered on the given date: a unit is included when it is effective on that date
+ * and has not expired yet.</p>
+ */
+public final class OrgUnitHierarchy {
+
+  private static final int ROOT = -1;
+
+  private final long[] numbers;
+  private final OrgUnitDto[] units;
+  private final long[] effectiveDays;
+  private final long[] expiryDays;
+  private final int[][] children;
+  private final int[][] ancestors;
+  private final int[][] descendants;
+  private final Map<String, Integer> codes;
+
+  private OrgUnitHierarchy(List<OrgUnitEntity> entities) {
+    int size = entities.size();
+    numbers = new long[size];
+    units = new OrgUnitDto[size];
+    effectiveDays = new long[size];
+    expiryDays = new long[size];
+    codes = new HashMap<>(size * 2);
+
+    for (int index = 0; index < size; index++) {
+      OrgUnitEntity entity = entities.get(index);
+      numbers[index] = entity.getOrgUnitNo();
+      units[index] = new OrgUnitDto(
+          entity.getOrgUnitCode(),
+          entity.getOrgUnitName(),
+          entity.getOrgLevelCode(),
+          entity.getEffectiveDate(),
+          entity.getExpiryDate()
+      );
+      effectiveDays[index] = toDay(entity.getEffectiveDate(), Long.MIN_VALUE);
+      expiryDays[index] = toDay(entity.getExpiryDate(), Long.MAX_VALUE);
+      codes.merge(entity.getOrgUnitCode(), index, this::latest);
+    }
+
+    int[] parents = new int[size];
+    for (int index = 0; index < size; index++) {
+      parents[index] = parentOf(entities.get(index));
+    }
+    ancestors = ancestorsOf(parents);
+    children = group(parents, index -> new int[]{parents[index]});
+    descendants = group(parents, index -> ancestors[index]);
+  }
+
+  /**
+   * Builds the index of the given units.
+   *
+   * @param entities every organization unit
+   * @return the index
+   */
+  public static OrgUnitHierarchy of(Collection<OrgUnitEntity> entities) {
+    List<OrgUnitEntity> sorted = new ArrayList<>(entities);
+    sorted.sort(Comparator.comparing(OrgUnitEntity::getOrgUnitNo));
+    return new OrgUnitHierarchy(sorted);
+  }
+
+  /**
+   * Number of units in the index.
+   *
+   * @return the number of units
+   */
+  public int size() {
+    return units.length;
+  }
+
+  /**
+   * Units directly under a unit, such as the districts of a region or the offices of a district.
+   *
+   * @param code the code of the unit
+   * @param asOf the date the units must be effective on
+   * @return the units, ordered by code
+   * @throws OrgUnitNotFoundException when the code is unknown
+   */
+  public List<OrgUnitDto> children(String code, LocalDate asOf) {
+    return select(children[indexOf(code)], asOf);
+  }
+
+  /**
+   * Every unit under a unit, at any depth.
+   *
+   * @param code the code of the unit
+   * @param asOf the date the units must be effective on
+   * @return the units, ordered by code
+   * @throws OrgUnitNotFoundException when the code is unknown
+   */
+  public List<OrgUnitDto> descendants(String code, LocalDate asOf) {
+    return select(descendants[indexOf(code)], asOf);
+  }
+
+  /**
+   * Units above a unit, such as the district and the region of an office.
+   *
+   * @param code the code of the unit
+   * @param asOf the date the units must be effective on
+   * @return the units, nearest first
+   * @throws OrgUnitNotFoundException when the code is unknown
+   */
+  public List<OrgUnitDto> ancestors(String code, LocalDate asOf) {
+    return select(ancestors[indexOf(code)], asOf);
+  }
+
+  private int indexOf(String code) {
+    Integer index = codes.get(code);
+    if (index == null) {
+      throw new OrgUnitNotFoundException(code);
+    }
+    return index;
+  }
+
+  private List<OrgUnitDto> select(int[] indexes, LocalDate asOf) {
+    long day = asOf.toEpochDay();
+    List<OrgUnitDto> selected = new ArrayList<>(indexes.length);
+    for (int index : indexes) {
+      if (effectiveDays[index] <= day && day < expiryDays[index]) {
+        selected.add(units[index]);
+      }
+    }
+    return selected;
+  }
+
+  private int parentOf(OrgUnitEntity entity) {
+    long self = entity.getOrgUnitNo();
+    for (Long rollup : new Long[]{entity.getRollupDistNo(), entity.getRollupRegionNo()}) {
+      if (rollup != null && rollup != self) {
+        int index = Arrays.binarySearch(numbers, rollup);
+        if (index >= 0) {
+          return index;
+        }
+      }
+    }
+    return ROOT;
+  }
+
+  private int[][] ancestorsOf(int[] parents) {
+    int[][] result = new int[parents.length][];
+    int[] path = new int[parents.length];
+    for (int index = 0; index < parents.length; index++) {
+      int depth = 0;
+      int parent = parents[index];
+      // The depth bound stops the walk on a cycle in the rollup columns
+      while (parent != ROOT && parent != index && depth < parents.length) {
+        path[depth++] = parent;
+        parent = parents[parent];
+      }
+      result[index] = Arrays.copyOf(path, depth);
+    }
+    return result;
+  }
+
+  private int[][] group(int[] parents, IntFunction<int[]> owners) {
+    int[] counts = new int[parents.length];
+    for (int index = 0; index < parents.length; index++) {
+      for (int owner : owners.apply(index)) {
+        if (owner != ROOT) {
+          counts[owner]++;
+        }
+      }
+    }
+
+    int[][] result = new int[parents.length][];
+    for (int index = 0; index < parents.length; index++) {
+      result[index] = new int[counts[index]];
+      counts[index] = 0;
+    }
+    for (int index = 0; index < parents.length; index++) {
+      for (int owner : owners.apply(index)) {
+        if (owner != ROOT) {
+          result[owner][counts[owner]++] = index;
+        }
+      }
+    }
+
+    Comparator<Integer> byCode = Comparator.comparing(index -> units[index].code());
+    for (int index = 0; index < parents.length; index++) {
+      result[index] = Arrays
+          .stream(result[index])
+          .boxed()
+          .sorted(byCode)
+          .mapToInt(Integer::intValue)
+          .toArray();
+    }
+    return result;
+  }
+
+  private int latest(int current, int candidate) {
+    return effectiveDays[candidate] > effectiveDays[current] ? candidate : current;
+  }
+
+  private static long toDay(LocalDate date, long absent) {
+    return date == null ? absent : date.toEpochDay();
+  }
+}
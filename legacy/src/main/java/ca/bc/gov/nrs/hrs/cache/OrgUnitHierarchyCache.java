@@ -0,0 +1,86 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+import ca.bc.gov.nrs.hrs.entity.codes.OrgUnitEntity;
+import ca.bc.gov.nrs.hrs.repository.QueryConstants;
+import ca.bc.gov.nrs.hrs.repository.StatelessQueryExecutor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the current {@link OrgUnitHierarchy}.
+ *
+ * <p>The hierarchy is built from a full scan of {@code THE.ORG_UNIT} through the
+ * {@link StatelessQueryExecutor}, on first use and then again whenever the
+ * {@link ReferenceDataWatcher} reports a change to the table. Requests are answered from memory
+ * and never wait for a reload. When a reload fails, the previous hierarchy is kept and the failure
+ * is thrown back to the watcher, which keeps the previous reference data version and reports the
+ * change again on its next check.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrgUnitHierarchyCache {
+
+  private final StatelessQueryExecutor queryExecutor;
+  private volatile OrgUnitHierarchy hierarchy;
+
+  /**
+   * The current hierarchy, built on the first call.
+   *
+   * @return the hierarchy
+   */
+  public OrgUnitHierarchy get() {
+    OrgUnitHierarchy current = hierarchy;
+    if (current != null) {
+      return current;
+    }
+    synchronized (this) {
+      if (hierarchy == null) {
+        hierarchy = load();
+      }
+      return hierarchy;
+    }
+  }
+
+  /**
+   * Builds the hierarchy again when the org-unit table changed.
+   *
+   * @param event the change event
+   */
+  @EventListener
+  public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+    if (ReferenceDataWatcher.ORG_UNIT.equals(event.table())) {
+      reload();
+    }
+  }
+
+  /**
+   * Builds the hierarchy again from the database.
+   *
+   * @throws RuntimeException when the table cannot be read, the previous hierarchy being kept
+   */
+  public void reload() {
+    OrgUnitHierarchy loaded = load();
+    synchronized (this) {
+      hierarchy = loaded;
+    }
+  }
+
+  private OrgUnitHierarchy load() {
+    List<OrgUnitEntity> entities = new ArrayList<>();
+    queryExecutor.scan(
+        QueryConstants.ORG_UNIT_HIERARCHY,
+        OrgUnitEntity.class,
+        Map.of(),
+        entities::add
+    );
+    OrgUnitHierarchy loaded = OrgUnitHierarchy.of(entities);
+    log.info("Built the org-unit hierarchy of {} units", loaded.size());
+    return loaded;
+  }
+}
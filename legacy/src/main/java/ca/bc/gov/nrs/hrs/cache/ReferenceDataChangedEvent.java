@@ -0,0 +1,11 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+/**
+ * Published when the watermark of a reference table moves, so the caches built from it reload.
+ *
+ * @param table   the name of the reference table, such as {@code THE.ORG_UNIT}
+ * @param version the reference data version after the change
+ */
+public record ReferenceDataChangedEvent(String table, long version) {
+
+}
@@ -0,0 +1,150 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+import ca.bc.gov.nrs.hrs.dto.base.WatermarkProjection;
+import ca.bc.gov.nrs.hrs.repository.codes.OrgUnitRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Detects changes to the reference tables by polling their watermark.
+ *
+ * <p>The watermark of a table is its latest update timestamp and its row count, read with a
+ * single aggregate query instead of the rows. When it moves, a {@link ReferenceDataChangedEvent}
+ * is published and the caches built from the table reload; when it does not, nothing else is
+ * read, so caches can be kept for long without serving stale data for long.</p>
+ *
+ * <p>The reference data version is derived from the watermark, so every replica reports the same
+ * version for the same data. It is sent in the {@value #VERSION_HEADER} header and is part of
+ * the ETags of the responses built from reference data, for clients and the backend to key their
+ * own caches on.</p>
+ */
+@Slf4j
+@Component
+public class ReferenceDataWatcher {
+
+  /**
+   * Name of the response header holding the reference data version.
+   */
+  public static final String VERSION_HEADER = "X-Reference-Data-Version";
+
+  /**
+   * Name of the org-unit table, as reported in {@link ReferenceDataChangedEvent#table()}.
+   */
+  public static final String ORG_UNIT = "THE.ORG_UNIT";
+
+  private static final long UNKNOWN = -1L;
+  private static final long MAX_ROWS = 1_000_000L;
+
+  private final OrgUnitRepository orgUnitRepository;
+  private final ApplicationEventPublisher eventPublisher;
+  private final AtomicLong version = new AtomicLong(UNKNOWN);
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Counter changes;
+
+  /**
+   * Creates the watcher.
+   *
+   * @param orgUnitRepository the repository reading the org-unit watermark
+   * @param eventPublisher    the publisher of the change events
+   * @param registry          the meter registry used to publish the change metrics
+   */
+  public ReferenceDataWatcher(
+      OrgUnitRepository orgUnitRepository,
+      ApplicationEventPublisher eventPublisher,
+      MeterRegistry registry
+  ) {
+    this.orgUnitRepository = orgUnitRepository;
+    this.eventPublisher = eventPublisher;
+    this.changes = Counter
+        .builder("hrs.reference-data.changes")
+        .description("Changes detected in the reference tables")
+        .tag("table", ORG_UNIT)
+        .register(registry);
+    Gauge
+        .builder("hrs.reference-data.version", version, AtomicLong::get)
+        .description("Current reference data version")
+        .register(registry);
+  }
+
+  /**
+   * Reads the watermark and publishes a change event when it moved since the last read.
+   *
+   * <p>The version is only updated once the listeners have reloaded, so a response carrying the
+   * new version is always built from the new data. When a listener fails, the version is kept
+   * and the change is published again on the next check.</p>
+   */
+  @Scheduled(fixedDelayString = "${ca.bc.gov.nrs.response-cache.watermark-interval:30s}")
+  public void check() {
+    lock.lock();
+    try {
+      read();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * The current reference data version, read on the first call when no check ran yet.
+   *
+   * <p>Only one caller reads the watermark at a time. The others do not wait for it and get -1
+   * right away, so a slow or unavailable database holds up a single request instead of queueing
+   * every request behind it, and the scheduled check keeps trying.</p>
+   *
+   * @return the version, or -1 when the watermark could not be read yet
+   */
+  public long version() {
+    if (version.get() == UNKNOWN && lock.tryLock()) {
+      try {
+        if (version.get() == UNKNOWN) {
+          read();
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+    return version.get();
+  }
+
+  private void read() {
+    long next;
+    try {
+      next = versionOf(orgUnitRepository.findWatermark());
+    } catch (DataAccessException e) {
+      log.warn("Could not read the watermark of {}", ORG_UNIT, e);
+      return;
+    }
+
+    long previous = version.get();
+    if (previous == next) {
+      return;
+    }
+    if (previous != UNKNOWN) {
+      try {
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ORG_UNIT, next));
+      } catch (RuntimeException e) {
+        log.warn("Could not reload the caches of {}, retrying on the next check", ORG_UNIT, e);
+        return;
+      }
+      log.info("{} changed, reference data version {} -> {}", ORG_UNIT, previous, next);
+      changes.increment();
+    }
+    version.set(next);
+  }
+
+  private static long versionOf(WatermarkProjection watermark) {
+    long seconds = watermark.getLastUpdate() == null
+        ? 0L
+        : watermark.getLastUpdate().toEpochSecond(ZoneOffset.UTC);
+    long rows = watermark.getRowCount() == null ? 0L : watermark.getRowCount();
+    return seconds * MAX_ROWS + rows % MAX_ROWS;
+  }
+}
@@ -0,0 +1,186 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps a snapshot of a value together with its encoded response body.
+ *
+ * <p>The snapshot is loaded again once it is older than the time to live. The body is only
+ * encoded again when the new snapshot differs from the previous one, so an unchanged code list
+ * keeps its bytes and its ETag for as long as the application runs.</p>
+ *
+ * <p>A single caller loads at a time. Others keep getting the previous body while it does, and
+ * only wait when there is no body yet. When loading fails and a previous body exists, that body
+ * is served until the next attempt. When the first load fails, the value of the fallback, if
+ * any, is served instead. Either way the next attempt is made after {@link #RETRY_INTERVAL}, or
+ * the time to live when it is shorter, so an unavailable source is not called on every
+ * request.</p>
+ *
+ * @param <T> the type of the cached value
+ */
+@Slf4j
+public class ResponseBodyCache<T> {
+
+  /**
+   * How long a failed load waits before the next attempt, unless the time to live is shorter.
+   */
+  static final Duration RETRY_INTERVAL = Duration.ofSeconds(30);
+
+  private final String name;
+  private final Supplier<T> loader;
+  private final Supplier<T> fallback;
+  private final ObjectMapper objectMapper;
+  private final long ttlNanos;
+  private final long retryNanos;
+  private final ReentrantLock loading = new ReentrantLock();
+  private volatile Snapshot<T> current;
+
+  /**
+   * Creates an empty cache; nothing is loaded until the first call to {@link #get()}.
+   *
+   * @param name         the name of the cached value, used in logs
+   * @param loader       the supplier loading the value
+   * @param objectMapper the mapper used to encode the value
+   * @param ttl          how long a snapshot is served before it is loaded again
+   */
+  public ResponseBodyCache(
+      String name,
+      Supplier<T> loader,
+      ObjectMapper objectMapper,
+      Duration ttl
+  ) {
+    this(name, loader, null, objectMapper, ttl);
+  }
+
+  /**
+   * Creates an empty cache that serves a fallback value while the value cannot be loaded.
+   *
+   * @param name         the name of the cached value, used in logs
+   * @param loader       the supplier loading the value, which throws when it cannot
+   * @param fallback     the supplier of the value served when there is no previous one, or null
+   * @param objectMapper the mapper used to encode the value
+   * @param ttl          how long a snapshot is served before it is loaded again
+   */
+  public ResponseBodyCache(
+      String name,
+      Supplier<T> loader,
+      Supplier<T> fallback,
+      ObjectMapper objectMapper,
+      Duration ttl
+  ) {
+    this.name = name;
+    this.loader = loader;
+    this.fallback = fallback;
+    this.objectMapper = objectMapper;
+    this.ttlNanos = ttl.toNanos();
+    this.retryNanos = Math.min(ttlNanos, RETRY_INTERVAL.toNanos());
+  }
+
+  /**
+   * Returns the encoded body of the current snapshot, loading it first when it has expired.
+   *
+   * @return the encoded body
+   */
+  public CachedResponseBody get() {
+    Snapshot<T> snapshot = current;
+    if (snapshot != null && !snapshot.isExpired(ttlNanos)) {
+      return snapshot.body();
+    }
+    if (snapshot != null && !loading.tryLock()) {
+      return snapshot.body();
+    }
+    if (snapshot == null) {
+      loading.lock();
+    }
+    try {
+      return refresh().body();
+    } finally {
+      loading.unlock();
+    }
+  }
+
+  /**
+   * Sets the first snapshot from a value loaded elsewhere, when nothing was loaded yet.
+   *
+   * <p>The value is served for a full time to live before the loader is called.</p>
+   *
+   * @param value the value to serve
+   */
+  public void seed(T value) {
+    loading.lock();
+    try {
+      if (current == null) {
+        CachedResponseBody body = CachedResponseBody.of(objectMapper, value);
+        log.info("Seeded {} with {} bytes, etag {}", name, body.size(), body.etag());
+        current = new Snapshot<>(value, body, System.nanoTime());
+      }
+    } finally {
+      loading.unlock();
+    }
+  }
+
+  /**
+   * Marks the current snapshot as expired, so the next call to {@link #get()} loads it again.
+   */
+  public void invalidate() {
+    Snapshot<T> snapshot = current;
+    if (snapshot != null) {
+      current = new Snapshot<>(snapshot.value(), snapshot.body(), System.nanoTime() - ttlNanos);
+    }
+  }
+
+  private Snapshot<T> refresh() {
+    Snapshot<T> snapshot = current;
+    if (snapshot != null && !snapshot.isExpired(ttlNanos)) {
+      return snapshot;
+    }
+
+    T value;
+    try {
+      value = loader.get();
+    } catch (RuntimeException e) {
+      if (snapshot != null) {
+        log.warn("Could not reload {}, serving the previous snapshot", name, e);
+        current = new Snapshot<>(snapshot.value(), snapshot.body(), retryAt());
+        return current;
+      }
+      if (fallback == null) {
+        throw e;
+      }
+      log.warn("Could not load {}, serving the fallback until the next attempt", name, e);
+      T fallbackValue = fallback.get();
+      current = new Snapshot<>(
+          fallbackValue,
+          CachedResponseBody.of(objectMapper, fallbackValue),
+          retryAt()
+      );
+      return current;
+    }
+
+    if (snapshot != null && Objects.equals(snapshot.value(), value)) {
+      current = new Snapshot<>(snapshot.value(), snapshot.body(), System.nanoTime());
+    } else {
+      CachedResponseBody body = CachedResponseBody.of(objectMapper, value);
+      log.info("Encoded {} as {} bytes, etag {}", name, body.size(), body.etag());
+      current = new Snapshot<>(value, body, System.nanoTime());
+    }
+    return current;
+  }
+
+  // A load time that makes the snapshot expire after the retry interval instead of the time to live
+  private long retryAt() {
+    return System.nanoTime() - ttlNanos + retryNanos;
+  }
+
+  private record Snapshot<T>(T value, CachedResponseBody body, long loadedAt) {
+
+    boolean isExpired(long ttlNanos) {
+      return System.nanoTime() - loadedAt >= ttlNanos;
+    }
+  }
+}
@@ -1,20 +1,23 @@
 package ca.bc.gov.nrs.hrs.configuration;
 
+import ca.bc.gov.nrs.hrs.security.ApiPathGroup;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 import org.springframework.stereotype.Component;
 
 /**
- * Application configuration properties for the HRS backend bound from properties with prefix
- * {@code ca.bc.gov.nrs}.
+ * Application configuration properties for the HRS legacy service bound from properties with
+ * prefix {@code ca.bc.gov.nrs}.
  *
- * <p>This class groups external API addresses and frontend-related settings
- * (including CORS configuration). Instances are populated automatically by Spring Boot's
- * {@code @ConfigurationProperties} mechanism.</p>
+ * <p>This class groups the allowed districts and request admission settings. Instances are
+ * populated automatically by Spring Boot's {@code @ConfigurationProperties} mechanism.</p>
  *
  * @since 1.0.0
  */
@@ -29,4 +32,184 @@ public class ApplicationConfiguration {
    * List of districts.
    */
   private List<String> districts;
+
+  /**
+   * Load shedding configuration, limiting concurrent requests per {@link ApiPathGroup}.
+   */
+  @NestedConfigurationProperty
+  private LoadSheddingConfiguration loadShedding;
+
+  /**
+   * Warm-up executed at startup, before the service reports itself ready.
+   */
+  @NestedConfigurationProperty
+  private WarmupConfiguration warmup;
+
+  /**
+   * Connection pool sizing bounds and behaviour.
+   */
+  @NestedConfigurationProperty
+  private ConnectionPoolConfiguration connectionPool;
+
+  /**
+   * Deadlines given to incoming requests and applied to database work.
+   */
+  @NestedConfigurationProperty
+  private DeadlineConfiguration deadline;
+
+  /**
+   * Caching of encoded response bodies for code lists.
+   */
+  @NestedConfigurationProperty
+  private ResponseCacheConfiguration responseCache;
+
+  /**
+   * The load shedding configuration.
+   *
+   * <p>Each path group may be given a maximum number of in-flight requests. Requests above that
+   * quota are rejected immediately with a {@code 503} instead of queueing for an Oracle
+   * connection. Groups without a quota, such as health probes, are never shed.</p>
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class LoadSheddingConfiguration {
+
+    /**
+     * Whether the per-group concurrency quotas are enforced.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum number of concurrent requests for each path group.
+     */
+    private Map<ApiPathGroup, Integer> limits;
+
+    /**
+     * How long a client should wait before retrying a shed request, sent as {@code Retry-After}.
+     */
+    private Duration retryAfter;
+  }
+
+  /**
+   * The startup warm-up configuration.
+   *
+   * <p>When enabled, connections, remote keys and serializers are primed before the readiness
+   * probe turns up. Whatever is not done within {@code timeout} is abandoned.</p>
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class WarmupConfiguration {
+
+    /**
+     * Whether the warm-up runs at startup.
+     */
+    private boolean enabled;
+
+    /**
+     * Time budget shared by all warm-up tasks.
+     */
+    private Duration timeout;
+  }
+
+  /**
+   * The connection pool sizing configuration.
+   *
+   * <p>The pool usage is sampled every {@code sampleInterval} and a maximum pool size is
+   * recommended every {@code evaluationInterval}, within {@code minSize} and {@code maxSize}. The
+   * recommendation is applied to the running pool only when {@code autoResize} is enabled.</p>
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class ConnectionPoolConfiguration {
+
+    /**
+     * Whether the recommended size is applied to the running pool.
+     */
+    private boolean autoResize;
+
+    /**
+     * Lower bound for the recommended maximum pool size.
+     */
+    private int minSize;
+
+    /**
+     * Upper bound for the recommended maximum pool size.
+     */
+    private int maxSize;
+
+    /**
+     * Fraction of samples with waiting threads above which the pool should grow.
+     */
+    private double growThreshold;
+
+    /**
+     * How often the pool usage is sampled.
+     */
+    private Duration sampleInterval;
+
+    /**
+     * How often a new size is evaluated from the collected samples.
+     */
+    private Duration evaluationInterval;
+  }
+
+  /**
+   * The request deadline configuration.
+   *
+   * <p>Every request gets a deadline, from the {@code X-Request-Deadline} header sent by the
+   * backend or from {@code defaultTimeout} otherwise, never further away than {@code maxTimeout}.
+   * What is left of it becomes the timeout of the transaction and of its JDBC statements.</p>
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class DeadlineConfiguration {
+
+    /**
+     * Whether requests get a deadline.
+     */
+    private boolean enabled;
+
+    /**
+     * Budget of a request that does not carry a deadline.
+     */
+    private Duration defaultTimeout;
+
+    /**
+     * Largest budget a caller can ask for.
+     */
+    private Duration maxTimeout;
+  }
+
+  /**
+   * The response body cache configuration.
+   *
+   * <p>Code lists are kept with their encoded JSON and gzip bodies, and loaded again every
+   * {@code ttl}. The bodies are only encoded again when the list changed. The watermarks of the
+   * reference tables are read every {@code watermarkInterval}, and a change reloads the caches
+   * straight away.</p>
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class ResponseCacheConfiguration {
+
+    /**
+     * How long a cached code list is served before it is loaded again.
+     */
+    private Duration ttl;
+
+    /**
+     * How often the watermarks of the reference tables are read to detect changes.
+     */
+    private Duration watermarkInterval;
+  }
 }
@@ -0,0 +1,36 @@
+package ca.bc.gov.nrs.hrs.configuration;
+
+import ca.bc.gov.nrs.hrs.filter.RequestDeadline;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionTimedOutException;
+
+/**
+ * JPA transaction manager that bounds every transaction by the deadline of the current request.
+ *
+ * <p>The transaction timeout becomes what is left of the {@link RequestDeadline}, rounded up to
+ * the next second, unless the transaction declares a shorter one. Hibernate passes the remaining
+ * transaction time to each JDBC statement as its query timeout, so the Oracle driver cancels a
+ * statement that would outlive its caller and the connection goes back to the pool. A transaction
+ * is not started at all once the deadline has passed.</p>
+ */
+public class DeadlineAwareTransactionManager extends JpaTransactionManager {
+
+  @Override
+  protected int determineTimeout(TransactionDefinition definition) {
+    int timeout = super.determineTimeout(definition);
+
+    Optional<Duration> remaining = RequestDeadline.remaining();
+    if (remaining.isEmpty()) {
+      return timeout;
+    }
+    if (remaining.get().isNegative()) {
+      throw new TransactionTimedOutException("Request deadline exceeded before the transaction");
+    }
+
+    int seconds = RequestDeadline.remainingSeconds().orElse(timeout);
+    return timeout == TransactionDefinition.TIMEOUT_DEFAULT ? seconds : Math.min(timeout, seconds);
+  }
+}
@@ -1,12 +1,18 @@
 package ca.bc.gov.nrs.hrs.configuration;
 
 import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
+import ca.bc.gov.nrs.hrs.dto.base.OrgUnitDto;
 import ca.bc.gov.nrs.hrs.entity.codes.OrgUnitEntity;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.transaction.PlatformTransactionManager;
 
 /**
  * Global Spring configuration for the application.
@@ -22,6 +28,7 @@ import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 @Configuration
 @RegisterReflectionForBinding({
     CodeDescriptionDto.class,
+    OrgUnitDto.class,
     OrgUnitEntity.class
 })
 public class GlobalConfiguration {
@@ -41,4 +48,45 @@ public class GlobalConfiguration {
     return builder.build();
   }
 
+  /**
+   * Provides a converter for the Smile binary JSON format.
+   *
+   * <p>Only used when a client asks for {@code application/x-jackson-smile}, which the backend
+   * does for its internal calls; every other client keeps receiving JSON. The mapper is built from
+   * the same {@link Jackson2ObjectMapperBuilder} as the JSON one, so both formats carry exactly the
+   * same fields.</p>
+   *
+   * @param builder the Jackson builder used to create the mapper
+   * @return the Smile message converter
+   */
+  @Bean
+  public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+      Jackson2ObjectMapperBuilder builder
+  ) {
+    SmileFactory smileFactory = SmileFactory
+        .builder()
+        .recyclerPool(JacksonConfiguration.BUFFER_POOL)
+        .build();
+    return new MappingJackson2SmileHttpMessageConverter(
+        builder.createXmlMapper(false).factory(smileFactory).build()
+    );
+  }
+
+  /**
+   * Provides the JPA transaction manager, bounded by the deadline of the current request.
+   *
+   * <p>Replaces the one Spring Boot would create, applying the same customizers.</p>
+   *
+   * @param customizers the transaction manager customizers from the auto-configuration
+   * @return the {@link DeadlineAwareTransactionManager}
+   */
+  @Bean
+  public PlatformTransactionManager transactionManager(
+      ObjectProvider<TransactionManagerCustomizers> customizers
+  ) {
+    DeadlineAwareTransactionManager transactionManager = new DeadlineAwareTransactionManager();
+    customizers.ifAvailable(customizer -> customizer.customize(transactionManager));
+    return transactionManager;
+  }
+
 }
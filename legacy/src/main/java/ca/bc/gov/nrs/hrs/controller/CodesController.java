@@ -1,38 +1,176 @@
 package ca.bc.gov.nrs.hrs.controller;
 
+import ca.bc.gov.nrs.hrs.cache.CachedResponseBody;
+import ca.bc.gov.nrs.hrs.cache.CodesResponseCache;
+import ca.bc.gov.nrs.hrs.cache.OrgUnitHierarchy;
+import ca.bc.gov.nrs.hrs.cache.OrgUnitHierarchyCache;
+import ca.bc.gov.nrs.hrs.cache.ReferenceDataWatcher;
 import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
+import ca.bc.gov.nrs.hrs.dto.base.OrgUnitDto;
 import ca.bc.gov.nrs.hrs.service.codes.AssessAreaStatusService;
-import ca.bc.gov.nrs.hrs.service.codes.DistrictService;
 import ca.bc.gov.nrs.hrs.service.codes.SamplingService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 /**
  * REST controller that exposes application code lists used by the frontend.
  *
  * <p>This controller returns small, read-only code sets such as districts, sampling codes and
  * assessment-area statuses. These endpoints are intended for populating dropdowns and other
- * UI widgets.</p>
+ * UI widgets. It also answers org-unit hierarchy questions, such as the districts of a region,
+ * from the in-memory {@link OrgUnitHierarchyCache}.</p>
+ *
+ * <p>Every response carries the reference data version in the
+ * {@value ReferenceDataWatcher#VERSION_HEADER} header. The hierarchy responses use it, with the
+ * date, as their ETag and answer 304 when the client already has them. They carry no ETag while
+ * the version is not known yet.</p>
  */
 @RestController
 @RequestMapping("/api/codes")
 @RequiredArgsConstructor
 public class CodesController {
 
-  private final DistrictService districtService;
+  private final CodesResponseCache responseCache;
+  private final OrgUnitHierarchyCache hierarchyCache;
+  private final ReferenceDataWatcher referenceDataWatcher;
   private final SamplingService samplingService;
   private final AssessAreaStatusService assessAreaStatusService;
 
   /**
    * Return the list of district code/description pairs.
    *
-   * @return a list of {@link CodeDescriptionDto} representing districts
+   * <p>The list of {@link CodeDescriptionDto} is written from its cached encoded form, see
+   * {@link CodesResponseCache}: as Smile when the client prefers it to JSON, as the backend does,
+   * and as JSON otherwise.</p>
+   *
+   * @param request  the current request
+   * @param response the response the list is written to
+   * @throws IOException when the response cannot be written
+   */
+  @GetMapping(
+      value = "/districts",
+      produces = {MediaType.APPLICATION_JSON_VALUE, CachedResponseBody.SMILE_VALUE}
+  )
+  public void getDistricts(HttpServletRequest request, HttpServletResponse response)
+      throws IOException {
+    response.setHeader(
+        ReferenceDataWatcher.VERSION_HEADER,
+        String.valueOf(referenceDataWatcher.version())
+    );
+    response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+    CachedResponseBody body = prefersSmile(request)
+        ? responseCache.smileDistricts()
+        : responseCache.districts();
+    body.writeTo(request, response);
+  }
+
+  /**
+   * Return the org units directly under an org unit.
+   *
+   * @param code    the org unit code
+   * @param asOf    the date the org units must be effective on, today when absent
+   * @param request the current request, used for the ETag
+   * @return the list of {@link OrgUnitDto}, ordered by code, or nothing when not modified
+   */
+  @GetMapping("/org-units/{code}/children")
+  public List<OrgUnitDto> getOrgUnitChildren(
+      @PathVariable String code,
+      @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate asOf,
+      ServletWebRequest request
+  ) {
+    return versioned(request, asOf, (hierarchy, date) -> hierarchy.children(code, date));
+  }
+
+  /**
+   * Return every org unit under an org unit, at any depth.
+   *
+   * @param code    the org unit code
+   * @param asOf    the date the org units must be effective on, today when absent
+   * @param request the current request, used for the ETag
+   * @return the list of {@link OrgUnitDto}, ordered by code, or nothing when not modified
    */
-  @GetMapping("/districts")
-  public List<CodeDescriptionDto> getDistricts() {
-    return districtService.findAllOrgUnits();
+  @GetMapping("/org-units/{code}/descendants")
+  public List<OrgUnitDto> getOrgUnitDescendants(
+      @PathVariable String code,
+      @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate asOf,
+      ServletWebRequest request
+  ) {
+    return versioned(request, asOf, (hierarchy, date) -> hierarchy.descendants(code, date));
+  }
+
+  /**
+   * Return the org units above an org unit, such as the district and region of an office.
+   *
+   * @param code    the org unit code
+   * @param asOf    the date the org units must be effective on, today when absent
+   * @param request the current request, used for the ETag
+   * @return the list of {@link OrgUnitDto}, nearest first, or nothing when not modified
+   */
+  @GetMapping("/org-units/{code}/ancestors")
+  public List<OrgUnitDto> getOrgUnitAncestors(
+      @PathVariable String code,
+      @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate asOf,
+      ServletWebRequest request
+  ) {
+    return versioned(request, asOf, (hierarchy, date) -> hierarchy.ancestors(code, date));
+  }
+
+  // Smile is only sent when it is accepted with a higher quality than JSON, so */* gets JSON
+  private static boolean prefersSmile(HttpServletRequest request) {
+    List<MediaType> accepted;
+    try {
+      accepted = MediaType.parseMediaTypes(
+          Collections.list(request.getHeaders(HttpHeaders.ACCEPT))
+      );
+    } catch (InvalidMediaTypeException e) {
+      return false;
+    }
+    return quality(accepted, CachedResponseBody.SMILE)
+        > quality(accepted, MediaType.APPLICATION_JSON);
+  }
+
+  private static double quality(List<MediaType> accepted, MediaType type) {
+    return accepted
+        .stream()
+        .filter(mediaType -> mediaType.includes(type))
+        .mapToDouble(MediaType::getQualityValue)
+        .max()
+        .orElse(0d);
+  }
+
+  private List<OrgUnitDto> versioned(
+      ServletWebRequest request,
+      LocalDate asOf,
+      BiFunction<OrgUnitHierarchy, LocalDate, List<OrgUnitDto>> query
+  ) {
+    long version = referenceDataWatcher.version();
+    LocalDate date = Optional.ofNullable(asOf).orElseGet(LocalDate::now);
+
+    if (request.getResponse() != null) {
+      request.getResponse().setHeader(ReferenceDataWatcher.VERSION_HEADER, String.valueOf(version));
+    }
+    // Without a known version there is nothing to validate a cached copy against
+    if (version >= 0 && request.checkNotModified("W/\"" + version + "-" + date + "\"")) {
+      return null;
+    }
+    return query.apply(hierarchyCache.get(), date);
   }
 }
@@ -0,0 +1,24 @@
+package ca.bc.gov.nrs.hrs.dto.base;
+
+/**
+ * Slim projection holding only the code and name columns of a code table row.
+ *
+ * <p>Used by lookup queries that only need to populate a code list, so Hibernate selects two
+ * columns and never hydrates or snapshots the full entity.</p>
+ */
+public interface CodeNameProjection {
+
+  /**
+   * Returns the code value.
+   *
+   * @return the code
+   */
+  String getCode();
+
+  /**
+   * Returns the human-readable name for the code.
+   *
+   * @return the name
+   */
+  String getName();
+}
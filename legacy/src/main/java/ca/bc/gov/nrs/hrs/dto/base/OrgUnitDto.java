@@ -0,0 +1,22 @@
+package ca.bc.gov.nrs.hrs.dto.base;
+
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object describing an organization unit of the org-unit hierarchy.
+ *
+ * @param code          the organization unit code
+ * @param name          the organization unit name
+ * @param orgLevelCode  the level of the unit in the hierarchy, such as region or district
+ * @param effectiveDate the date the unit became effective
+ * @param expiryDate    the date the unit expires
+ */
+public record OrgUnitDto(
+    String code,
+    String name,
+    Character orgLevelCode,
+    LocalDate effectiveDate,
+    LocalDate expiryDate
+) {
+
+}
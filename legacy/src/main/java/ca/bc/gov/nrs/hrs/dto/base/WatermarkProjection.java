@@ -0,0 +1,26 @@
+package ca.bc.gov.nrs.hrs.dto.base;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection holding the change watermark of a reference table.
+ *
+ * <p>Two reads returning the same watermark mean the table did not change in between, as far as
+ * inserts, updates touching the update timestamp and deletions go.</p>
+ */
+public interface WatermarkProjection {
+
+  /**
+   * Returns the most recent update timestamp of the table.
+   *
+   * @return the last update, or {@code null} when the table is empty
+   */
+  LocalDateTime getLastUpdate();
+
+  /**
+   * Returns the number of rows of the table.
+   *
+   * @return the row count
+   */
+  Long getRowCount();
+}
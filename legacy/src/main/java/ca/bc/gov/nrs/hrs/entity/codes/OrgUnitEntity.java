@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -112,8 +113,8 @@ public class OrgUnitEntity {
   private LocalDate expiryDate;
 
   /**
-   * Timestamp of the last update to the org unit record.
+   * Timestamp of the last update to the org unit record, down to the second.
    */
   @Column(name = "UPDATE_TIMESTAMP", nullable = false)
-  private LocalDate updateTimestamp;
+  private LocalDateTime updateTimestamp;
 }
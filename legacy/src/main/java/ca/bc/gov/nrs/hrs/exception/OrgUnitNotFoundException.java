@@ -0,0 +1,23 @@
+package ca.bc.gov.nrs.hrs.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Exception thrown when an organization unit code is not part of the org-unit hierarchy.
+ *
+ * <p>This exception maps to HTTP 404 Not Found via {@link ResponseStatus @ResponseStatus}.</p>
+ */
+@ResponseStatus(value = HttpStatus.NOT_FOUND)
+public class OrgUnitNotFoundException extends ResponseStatusException {
+
+  /**
+   * Create an {@code OrgUnitNotFoundException} for the given code.
+   *
+   * @param orgUnitCode the organization unit code that was not found
+   */
+  public OrgUnitNotFoundException(String orgUnitCode) {
+    super(HttpStatus.NOT_FOUND, "Org unit " + orgUnitCode + " not found");
+  }
+}
@@ -0,0 +1,153 @@
+package ca.bc.gov.nrs.hrs.filter;
+
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration.LoadSheddingConfiguration;
+import ca.bc.gov.nrs.hrs.security.ApiPathGroup;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * Servlet filter that applies per-path-group concurrency quotas.
+ *
+ * <p>Each request is classified into an {@link ApiPathGroup}. When the group has a configured
+ * quota and all its permits are in use, the request is rejected straight away with a
+ * {@code 503 Service Unavailable} and a {@code Retry-After} header, instead of waiting for an
+ * Oracle connection that is already busy with heavier work. Groups without a quota (health probes
+ * and metrics) always pass, so a saturated search path cannot starve the readiness probe.</p>
+ *
+ * <p>The filter runs right after the observation filter, before authentication, so shed requests
+ * cost as little as possible while still being recorded as HTTP server metrics.</p>
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+  private static final UrlPathHelper PATH_HELPER = new UrlPathHelper();
+  private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(5);
+
+  private final Map<ApiPathGroup, Semaphore> permits = new EnumMap<>(ApiPathGroup.class);
+  private final Map<ApiPathGroup, Counter> rejections = new EnumMap<>(ApiPathGroup.class);
+  private final ObjectMapper objectMapper;
+  private final boolean enabled;
+  private final String retryAfter;
+
+  /**
+   * Creates the filter and registers one semaphore per limited path group.
+   *
+   * @param configuration the application configuration holding the quotas
+   * @param registry      the meter registry used to publish in-flight and rejection metrics
+   * @param objectMapper  the mapper used to write the problem detail body
+   */
+  public LoadSheddingFilter(
+      ApplicationConfiguration configuration,
+      MeterRegistry registry,
+      ObjectMapper objectMapper
+  ) {
+    LoadSheddingConfiguration loadShedding = configuration.getLoadShedding();
+    this.objectMapper = objectMapper;
+    this.enabled = loadShedding != null && loadShedding.isEnabled();
+    this.retryAfter = String.valueOf(Math.max(1, Optional
+        .ofNullable(loadShedding)
+        .map(LoadSheddingConfiguration::getRetryAfter)
+        .orElse(DEFAULT_RETRY_AFTER)
+        .toSeconds()
+    ));
+
+    if (enabled && loadShedding.getLimits() != null) {
+      loadShedding.getLimits().forEach((group, limit) -> {
+        Semaphore semaphore = new Semaphore(limit);
+        permits.put(group, semaphore);
+        Gauge
+            .builder("http.server.requests.inflight", semaphore,
+                value -> (double) limit - value.availablePermits()
+            )
+            .description("Requests currently admitted for the path group")
+            .tag("group", group.name().toLowerCase())
+            .register(registry);
+        rejections.put(group, Counter
+            .builder("http.server.requests.shed")
+            .description("Requests rejected because the path group quota was exhausted")
+            .tag("group", group.name().toLowerCase())
+            .register(registry)
+        );
+        log.info("Load shedding quota for {} requests set to {}", group, limit);
+      });
+    }
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !enabled;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      FilterChain filterChain
+  ) throws ServletException, IOException {
+
+    ApiPathGroup group = ApiPathGroup.fromPath(PATH_HELPER.getPathWithinApplication(request));
+    Semaphore semaphore = permits.get(group);
+
+    if (semaphore == null) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    if (!semaphore.tryAcquire()) {
+      reject(group, request, response);
+      return;
+    }
+
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      semaphore.release();
+    }
+  }
+
+  private void reject(
+      ApiPathGroup group,
+      HttpServletRequest request,
+      HttpServletResponse response
+  ) throws IOException {
+    rejections.get(group).increment();
+    log.debug("Shedding {} request to {}, quota exhausted", group, request.getRequestURI());
+
+    ProblemDetail problem = ProblemDetail.forStatusAndDetail(
+        HttpStatus.SERVICE_UNAVAILABLE,
+        "The service is busy, please retry later"
+    );
+    problem.setInstance(URI.create(request.getRequestURI()));
+
+    response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+    response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+    objectMapper.writeValue(response.getOutputStream(), problem);
+  }
+}
@@ -0,0 +1,75 @@
+package ca.bc.gov.nrs.hrs.filter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Holds the deadline of the request being served by the current thread.
+ *
+ * <p>The deadline is set by the {@link RequestDeadlineFilter} and read when database work starts,
+ * so that a statement never outlives the caller that is waiting for it.</p>
+ */
+public final class RequestDeadline {
+
+  /**
+   * Header carrying the remaining budget of a request, in milliseconds.
+   */
+  public static final String HEADER = "X-Request-Deadline";
+
+  private static final ThreadLocal<Instant> DEADLINE = new ThreadLocal<>();
+
+  private RequestDeadline() {
+  }
+
+  /**
+   * Sets the deadline for the current thread until the returned scope is closed.
+   *
+   * @param deadline the instant after which the request is abandoned
+   * @return the scope that restores the previous deadline when closed
+   */
+  public static Scope start(Instant deadline) {
+    Instant previous = DEADLINE.get();
+    DEADLINE.set(deadline);
+    return () -> {
+      if (previous == null) {
+        DEADLINE.remove();
+      } else {
+        DEADLINE.set(previous);
+      }
+    };
+  }
+
+  /**
+   * Returns the time left before the deadline of the current request, if any.
+   *
+   * @return the remaining time, negative once the deadline has passed, or empty outside a request
+   */
+  public static Optional<Duration> remaining() {
+    return Optional
+        .ofNullable(DEADLINE.get())
+        .map(deadline -> Duration.between(Instant.now(), deadline));
+  }
+
+  /**
+   * Returns the time left before the deadline in whole seconds, rounded up, as used by JDBC and
+   * transaction timeouts.
+   *
+   * @return the remaining seconds, at least one, or empty outside a request
+   */
+  public static Optional<Integer> remainingSeconds() {
+    return remaining().map(left ->
+        (int) Math.max(1L, (left.toMillis() + 999L) / 1000L)
+    );
+  }
+
+  /**
+   * Scope of a deadline; closing it restores the previous one.
+   */
+  @FunctionalInterface
+  public interface Scope extends AutoCloseable {
+
+    @Override
+    void close();
+  }
+}
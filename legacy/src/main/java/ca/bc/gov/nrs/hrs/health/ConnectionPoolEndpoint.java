@@ -0,0 +1,27 @@
+package ca.bc.gov.nrs.hrs.health;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint reporting the connection pool usage and sizing recommendation.
+ */
+@Component
+@Endpoint(id = "connectionpool")
+@RequiredArgsConstructor
+public class ConnectionPoolEndpoint {
+
+  private final ConnectionPoolSizer sizer;
+
+  /**
+   * Reports the live pool counters and the latest sizing evaluation.
+   *
+   * @return the connection pool report
+   */
+  @ReadOperation
+  public ConnectionPoolReport report() {
+    return sizer.report();
+  }
+}
@@ -0,0 +1,56 @@
+package ca.bc.gov.nrs.hrs.health;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports whether the connection pool has room for more work.
+ *
+ * <p>Reads the pool counters kept in memory by Hikari, so a probe never borrows a connection and
+ * never competes with user traffic. When every connection is in use and requests are already
+ * queueing for one, the pod reports {@code OUT_OF_SERVICE} so the readiness group sends new
+ * traffic to the other replicas until the pool drains.</p>
+ */
+@Component
+public class ConnectionPoolHealthIndicator implements HealthIndicator {
+
+  private final HikariDataSource dataSource;
+
+  /**
+   * Creates the indicator for the application data source.
+   *
+   * @param dataSource the application data source, expected to be a Hikari pool
+   * @throws SQLException when the data source is not backed by Hikari
+   */
+  public ConnectionPoolHealthIndicator(DataSource dataSource) throws SQLException {
+    this.dataSource = dataSource.unwrap(HikariDataSource.class);
+  }
+
+  @Override
+  public Health health() {
+    HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+    if (pool == null) {
+      return Health.up().withDetail("pool", "not started").build();
+    }
+
+    int active = pool.getActiveConnections();
+    int waiting = pool.getThreadsAwaitingConnection();
+    int maximum = dataSource.getMaximumPoolSize();
+    Health.Builder builder = active >= maximum && waiting > 0
+        ? Health.outOfService()
+        : Health.up();
+
+    return builder
+        .withDetail("pool", dataSource.getPoolName())
+        .withDetail("active", active)
+        .withDetail("idle", pool.getIdleConnections())
+        .withDetail("maximum", maximum)
+        .withDetail("waiting", waiting)
+        .build();
+  }
+}
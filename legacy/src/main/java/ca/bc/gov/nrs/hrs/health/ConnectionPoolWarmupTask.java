@@ -0,0 +1,50 @@
+package ca.bc.gov.nrs.hrs.health;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Opens the connection pool and fills it up to its minimum idle size.
+ *
+ * <p>Hikari only starts the pool on the first borrow and then fills it in the background, so the
+ * first requests would otherwise wait for the physical connections to be established. Holding
+ * {@code minimumIdle} connections at once forces all of them to be opened now.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConnectionPoolWarmupTask implements WarmupTask {
+
+  private final DataSource dataSource;
+
+  @Override
+  public String name() {
+    return "connection-pool";
+  }
+
+  @Override
+  public void warmUp() throws SQLException {
+    int target = dataSource.isWrapperFor(HikariDataSource.class)
+        ? Math.max(1, dataSource.unwrap(HikariDataSource.class).getMinimumIdle())
+        : 1;
+
+    List<Connection> connections = new ArrayList<>(target);
+    try {
+      for (int i = 0; i < target; i++) {
+        connections.add(dataSource.getConnection());
+      }
+      log.debug("Connection pool warmed up with {} connections", connections.size());
+    } finally {
+      for (Connection connection : connections) {
+        connection.close();
+      }
+    }
+  }
+}
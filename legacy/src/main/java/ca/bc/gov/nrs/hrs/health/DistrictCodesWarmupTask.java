@@ -0,0 +1,32 @@
+package ca.bc.gov.nrs.hrs.health;
+
+import ca.bc.gov.nrs.hrs.cache.CodesResponseCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the district code list once.
+ *
+ * <p>Runs the real lookup end to end: the query plan is compiled, the statement is parsed and
+ * cached by the Oracle driver and the mapper is exercised, so the first user does not pay for it.
+ * The list is loaded through {@link CodesResponseCache}, which also leaves its Smile body, the
+ * one the backend asks for, ready to be served.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DistrictCodesWarmupTask implements WarmupTask {
+
+  private final CodesResponseCache responseCache;
+
+  @Override
+  public String name() {
+    return "district-codes";
+  }
+
+  @Override
+  public void warmUp() {
+    log.debug("Warmed up district codes, {} bytes", responseCache.smileDistricts().size());
+  }
+}
@@ -0,0 +1,27 @@
+package ca.bc.gov.nrs.hrs.health;
+
+import ca.bc.gov.nrs.hrs.cache.OrgUnitHierarchyCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the org-unit hierarchy before the first request needs it.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrgUnitHierarchyWarmupTask implements WarmupTask {
+
+  private final OrgUnitHierarchyCache hierarchyCache;
+
+  @Override
+  public String name() {
+    return "org-unit-hierarchy";
+  }
+
+  @Override
+  public void warmUp() {
+    log.debug("Warmed up org-unit hierarchy, {} units", hierarchyCache.get().size());
+  }
+}
@@ -0,0 +1,25 @@
+package ca.bc.gov.nrs.hrs.health;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports {@code OUT_OF_SERVICE} until the startup warm-up is over.
+ */
+@Component
+@RequiredArgsConstructor
+public class WarmupHealthIndicator implements HealthIndicator {
+
+  private final WarmupState state;
+
+  @Override
+  public Health health() {
+    return state
+        .getDuration()
+        .map(duration -> Health.up().withDetail("duration", duration.toMillis() + " ms"))
+        .orElseGet(Health::outOfService)
+        .build();
+  }
+}
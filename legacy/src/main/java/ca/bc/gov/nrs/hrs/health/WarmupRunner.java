@@ -0,0 +1,143 @@
+package ca.bc.gov.nrs.hrs.health;
+
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration.WarmupConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs every {@link WarmupTask} once the application context is up.
+ *
+ * <p>Spring Boot only marks the application as ready to accept traffic after all application
+ * runners have returned, so the readiness probe stays down while the warm-up is running and new
+ * pods don't take traffic with cold pools and caches. Tasks run concurrently and share a single
+ * time budget; whatever is not done by then is cancelled, and the service becomes ready anyway.</p>
+ *
+ * <p>The total duration is published as {@code warmup.duration} and each task as
+ * {@code warmup.task}, tagged with the task name and its outcome.</p>
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class WarmupRunner implements ApplicationRunner {
+
+  private final List<WarmupTask> tasks;
+  private final WarmupConfiguration configuration;
+  private final MeterRegistry registry;
+  private final WarmupState state;
+
+  /**
+   * Creates the runner.
+   *
+   * @param tasks         the warm-up tasks registered in the context
+   * @param configuration the application configuration holding the warm-up settings
+   * @param registry      the meter registry used for warm-up metrics
+   * @param state         the state updated when the warm-up is over
+   */
+  public WarmupRunner(
+      ObjectProvider<WarmupTask> tasks,
+      ApplicationConfiguration configuration,
+      MeterRegistry registry,
+      WarmupState state
+  ) {
+    this.tasks = tasks.orderedStream().toList();
+    this.configuration = configuration.getWarmup() != null
+        ? configuration.getWarmup()
+        : new WarmupConfiguration();
+    this.registry = registry;
+    this.state = state;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    if (!configuration.isEnabled() || tasks.isEmpty()) {
+      log.info("Warm-up disabled, skipping");
+      state.complete(Duration.ZERO);
+      return;
+    }
+
+    log.info("Warming up {} tasks", tasks.size());
+    long start = System.nanoTime();
+    long deadline = start + configuration.getTimeout().toNanos();
+    ExecutorService executor = Executors.newFixedThreadPool(tasks.size(), threadFactory());
+
+    try {
+      Map<WarmupTask, Future<Long>> running = new LinkedHashMap<>();
+      for (WarmupTask task : tasks) {
+        running.put(task, executor.submit(() -> {
+          long taskStart = System.nanoTime();
+          task.warmUp();
+          return System.nanoTime() - taskStart;
+        }));
+      }
+
+      for (Map.Entry<WarmupTask, Future<Long>> entry : running.entrySet()) {
+        await(entry.getKey(), entry.getValue(), start, deadline);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("Warm-up interrupted");
+    } finally {
+      executor.shutdownNow();
+    }
+
+    Duration duration = Duration.ofNanos(System.nanoTime() - start);
+    Timer
+        .builder("warmup.duration")
+        .description("Time spent warming up before accepting traffic")
+        .register(registry)
+        .record(duration);
+    state.complete(duration);
+    log.info("Warm-up finished in {} ms", duration.toMillis());
+  }
+
+  private void await(WarmupTask task, Future<Long> future, long start, long deadline)
+      throws InterruptedException {
+    try {
+      long took = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+      record(task, "success", took);
+      log.debug("Warm-up task {} done in {} ms", task.name(), TimeUnit.NANOSECONDS.toMillis(took));
+    } catch (ExecutionException e) {
+      record(task, "failure", System.nanoTime() - start);
+      log.warn("Warm-up task {} failed: {}", task.name(), e.getCause().getMessage());
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      record(task, "timeout", System.nanoTime() - start);
+      log.warn("Warm-up task {} did not finish within {}", task.name(), configuration.getTimeout());
+    }
+  }
+
+  private void record(WarmupTask task, String outcome, long nanos) {
+    Timer
+        .builder("warmup.task")
+        .description("Time spent on each warm-up task")
+        .tag("task", task.name())
+        .tag("outcome", outcome)
+        .register(registry)
+        .record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  private static CustomizableThreadFactory threadFactory() {
+    CustomizableThreadFactory factory = new CustomizableThreadFactory("warmup-");
+    factory.setDaemon(true);
+    return factory;
+  }
+}
@@ -8,6 +8,10 @@ package ca.bc.gov.nrs.hrs.mappers;
  * interface keeps mappers focused on a single-item conversion and is typically implemented
  * by MapStruct or hand-written mappers.</p>
  *
+ * <p>Prefer slim interface projections such as
+ * {@link ca.bc.gov.nrs.hrs.dto.base.CodeNameProjection} over full entities as the source type,
+ * so queries only select the columns the DTO needs.</p>
+ *
  * @param <D> the DTO type produced by the mapper
  * @param <P> the projection/source type consumed by the mapper
  */
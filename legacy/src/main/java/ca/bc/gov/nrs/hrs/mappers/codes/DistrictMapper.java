@@ -1,7 +1,7 @@
 package ca.bc.gov.nrs.hrs.mappers.codes;
 
 import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
-import ca.bc.gov.nrs.hrs.entity.codes.OrgUnitEntity;
+import ca.bc.gov.nrs.hrs.dto.base.CodeNameProjection;
 import ca.bc.gov.nrs.hrs.mappers.AbstractSingleMapper;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -12,7 +12,7 @@ import org.mapstruct.ReportingPolicy;
  * Mapper that converts organization-unit projections into {@link CodeDescriptionDto} objects
  * suitable for frontend code lists.
  *
- * <p>Maps fields from {@link OrgUnitEntity} to the common code/description DTO. The mapper
+ * <p>Maps the slim {@link CodeNameProjection} to the common code/description DTO. The mapper
  * is configured as a Spring component and ignores unmapped targets to permit partial mappings.</p>
  */
 @Mapper(
@@ -20,16 +20,16 @@ import org.mapstruct.ReportingPolicy;
     unmappedTargetPolicy = ReportingPolicy.IGNORE
 )
 public interface DistrictMapper extends
-    AbstractSingleMapper<CodeDescriptionDto, OrgUnitEntity> {
+    AbstractSingleMapper<CodeDescriptionDto, CodeNameProjection> {
 
   /**
-   * Map fields from {@link OrgUnitEntity} projection to {@link CodeDescriptionDto}.
+   * Map fields from {@link CodeNameProjection} to {@link CodeDescriptionDto}.
    *
-   * @param projection the org-unit entity used as a projection source
+   * @param projection the org-unit code and name projection
    * @return the mapped {@link CodeDescriptionDto}
    */
   @Override
-  @Mapping(target = "code", source = "orgUnitCode")
-  @Mapping(target = "description", source = "orgUnitName")
-  CodeDescriptionDto fromProjection(OrgUnitEntity projection);
+  @Mapping(target = "code", source = "code")
+  @Mapping(target = "description", source = "name")
+  CodeDescriptionDto fromProjection(CodeNameProjection projection);
 }
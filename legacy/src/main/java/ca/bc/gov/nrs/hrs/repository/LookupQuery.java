@@ -0,0 +1,27 @@
+package ca.bc.gov.nrs.hrs.repository;
+
+import jakarta.persistence.QueryHint;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.springframework.data.jpa.repository.QueryHints;
+
+/**
+ * Marks a repository method as a code or lookup query.
+ *
+ * <p>Applies the {@link QueryConstants#LOOKUP_FETCH_SIZE} fetch size, so small reference lists
+ * are read in a single round trip, and loads results read-only so Hibernate keeps no snapshot
+ * for dirty-checking.</p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@QueryHints({
+    @QueryHint(name = QueryConstants.FETCH_SIZE_HINT, value = QueryConstants.LOOKUP_FETCH_SIZE),
+    @QueryHint(name = QueryConstants.READ_ONLY_HINT, value = "true")
+})
+public @interface LookupQuery {
+
+}
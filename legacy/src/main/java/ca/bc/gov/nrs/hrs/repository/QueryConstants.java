@@ -2,6 +2,7 @@ package ca.bc.gov.nrs.hrs.repository;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 
 /**
  * QueryConstants is a utility class that holds SQL query fragments and constants used throughout
@@ -11,6 +12,11 @@ import lombok.NoArgsConstructor;
  * <p>This class is not meant to be instantiated, hence the private constructor.
  * The constants defined in this class are used in repository classes to fetch data from
  * the database.</p>
+ *
+ * <p>It also holds the JDBC tuning and read-only hints used by the {@link LookupQuery} and
+ * {@link SearchQuery} annotations. The Oracle driver fetches 10 rows per round trip by default,
+ * so a result set of a few hundred rows over the TCPS link would otherwise take dozens of round
+ * trips.</p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class QueryConstants {
@@ -19,4 +25,45 @@ public class QueryConstants {
   private static final String COUNT = "SELECT COUNT(1) AS total ";
   private static final String COUNT_CTE = "SELECT COUNT(1) OVER() AS total ";
 
+  /**
+   * Every organization unit, scanned to build the org-unit hierarchy.
+   */
+  public static final String ORG_UNIT_HIERARCHY = "SELECT o FROM OrgUnitEntity o";
+
+  /**
+   * Watermark of the org units: the last update and the row count, so deletions move it too.
+   *
+   * <p>{@code UPDATE_TIMESTAMP} is nullable in the database, so its index does not hold every row
+   * and cannot answer the count. The rows are counted on the primary key instead, which Oracle
+   * can count from the {@code ORG_UNIT_PK} index without reading the table.</p>
+   */
+  public static final String ORG_UNIT_WATERMARK = """
+      SELECT MAX(o.updateTimestamp) AS lastUpdate, COUNT(o.orgUnitNo) AS rowCount
+      FROM OrgUnitEntity o""";
+
+  /**
+   * Name of the query hint controlling the JDBC fetch size.
+   */
+  public static final String FETCH_SIZE_HINT = HibernateHints.HINT_FETCH_SIZE;
+
+  /**
+   * Name of the query hint loading results as read-only, without persistence-context snapshots.
+   */
+  public static final String READ_ONLY_HINT = HibernateHints.HINT_READ_ONLY;
+
+  /**
+   * Fetch size for code and lookup queries, large enough to bring a full code list in one trip.
+   */
+  public static final String LOOKUP_FETCH_SIZE = "100";
+
+  /**
+   * Fetch size for search queries, sized for the largest page the UI can request.
+   */
+  public static final String SEARCH_FETCH_SIZE = "250";
+
+  /**
+   * Fetch size for full scans streamed through a stateless session.
+   */
+  public static final String SCAN_FETCH_SIZE = "500";
+
 }
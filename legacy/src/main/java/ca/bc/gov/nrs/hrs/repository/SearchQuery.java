@@ -0,0 +1,29 @@
+package ca.bc.gov.nrs.hrs.repository;
+
+import jakarta.persistence.QueryHint;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.springframework.data.jpa.repository.QueryHints;
+
+/**
+ * Marks a repository method as a paginated search query.
+ *
+ * <p>Applies the {@link QueryConstants#SEARCH_FETCH_SIZE} fetch size to the page query and loads
+ * results read-only. The count query is a single row and keeps the default.</p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@QueryHints(
+    value = {
+        @QueryHint(name = QueryConstants.FETCH_SIZE_HINT, value = QueryConstants.SEARCH_FETCH_SIZE),
+        @QueryHint(name = QueryConstants.READ_ONLY_HINT, value = "true")
+    },
+    forCounting = false
+)
+public @interface SearchQuery {
+
+}
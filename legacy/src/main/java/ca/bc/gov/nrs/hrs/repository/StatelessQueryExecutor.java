@@ -0,0 +1,75 @@
+package ca.bc.gov.nrs.hrs.repository;
+
+import ca.bc.gov.nrs.hrs.filter.RequestDeadline;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Map;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.query.SelectionQuery;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs large read-only scans through a Hibernate {@link StatelessSession}.
+ *
+ * <p>A stateless session has no persistence context: rows are hydrated, handed to the consumer
+ * and become garbage straight away, with no first-level cache entry and no snapshot copy. Results
+ * are streamed with a forward-only cursor and the {@link QueryConstants#SCAN_FETCH_SIZE} fetch
+ * size, so memory stays flat regardless of the number of rows. Use it for full-table loads such as
+ * reference data snapshots; regular lookups should keep using Spring Data repositories.</p>
+ *
+ * <p>A stateless session is not bound to the Spring transaction, so the deadline of the current
+ * request, if any, is applied to the query as its timeout here.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatelessQueryExecutor {
+
+  private final EntityManagerFactory entityManagerFactory;
+
+  /**
+   * Streams the results of an HQL query to the given consumer.
+   *
+   * @param hql        the HQL selection query
+   * @param resultType the type of each result row
+   * @param parameters named query parameters
+   * @param consumer   receives each row as it is read
+   * @param <T>        the result type
+   * @return the number of rows read
+   */
+  public <T> long scan(
+      String hql,
+      Class<T> resultType,
+      Map<String, Object> parameters,
+      Consumer<T> consumer
+  ) {
+    SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    long rows = 0;
+
+    try (StatelessSession session = sessionFactory.openStatelessSession()) {
+      session.doWork(connection -> connection.setReadOnly(true));
+
+      SelectionQuery<T> query = session
+          .createSelectionQuery(hql, resultType)
+          .setFetchSize(Integer.parseInt(QueryConstants.SCAN_FETCH_SIZE))
+          .setReadOnly(true);
+      parameters.forEach(query::setParameter);
+      RequestDeadline.remainingSeconds().ifPresent(query::setTimeout);
+
+      try (ScrollableResults<T> results = query.scroll(ScrollMode.FORWARD_ONLY)) {
+        while (results.next()) {
+          consumer.accept(results.get());
+          rows++;
+        }
+      }
+    }
+
+    log.debug("Scanned {} rows of {}", rows, resultType.getSimpleName());
+    return rows;
+  }
+}
@@ -1,8 +1,13 @@
 package ca.bc.gov.nrs.hrs.repository.codes;
 
+import ca.bc.gov.nrs.hrs.dto.base.CodeNameProjection;
+import ca.bc.gov.nrs.hrs.dto.base.WatermarkProjection;
 import ca.bc.gov.nrs.hrs.entity.codes.OrgUnitEntity;
+import ca.bc.gov.nrs.hrs.repository.LookupQuery;
+import ca.bc.gov.nrs.hrs.repository.QueryConstants;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -16,10 +21,27 @@ import org.springframework.stereotype.Repository;
 public interface OrgUnitRepository extends JpaRepository<OrgUnitEntity, Long> {
 
   /**
-   * Find organization units by a list of codes and return them ordered by code ascending.
+   * Find the code and name of organization units by a list of codes, ordered by code ascending.
+   *
+   * <p>Only the two columns needed for a code list are selected.</p>
    *
    * @param orgUnitCodes the list of organization unit codes to search for
-   * @return a list of matching {@link OrgUnitEntity} ordered by orgUnitCode ascending
+   * @return a list of {@link CodeNameProjection} ordered by code ascending
+   */
+  @LookupQuery
+  @Query("""
+      SELECT o.orgUnitCode AS code, o.orgUnitName AS name
+      FROM OrgUnitEntity o
+      WHERE o.orgUnitCode IN :orgUnitCodes
+      ORDER BY o.orgUnitCode ASC""")
+  List<CodeNameProjection> findCodeNamesByOrgUnitCodeIn(List<String> orgUnitCodes);
+
+  /**
+   * Read the watermark of the org-unit table, used to detect changes without reading the rows.
+   *
+   * @return the last update timestamp and the number of rows
    */
-  List<OrgUnitEntity> findAllByOrgUnitCodeInOrderByOrgUnitCodeAsc(List<String> orgUnitCodes);
+  @LookupQuery
+  @Query(QueryConstants.ORG_UNIT_WATERMARK)
+  WatermarkProjection findWatermark();
 }
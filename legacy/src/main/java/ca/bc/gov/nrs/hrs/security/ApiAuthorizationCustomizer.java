@@ -40,7 +40,7 @@ public class ApiAuthorizationCustomizer implements
 
     authorize
         // Allow actuator endpoints to be accessed without authentication
-        .requestMatchers(HttpMethod.GET, "/metrics", "/health")
+        .requestMatchers(HttpMethod.GET, ApiPathGroup.ACTUATOR.getPatterns())
         .permitAll();
 
     authorize
@@ -49,7 +49,9 @@ public class ApiAuthorizationCustomizer implements
         .authenticated()
 
         // Allow unrestricted access to authenticated users
-        .requestMatchers("/api/codes/**", "/api/search/**")
+        .requestMatchers(ApiPathGroup.CODES.getPatterns())
+        .authenticated()
+        .requestMatchers(ApiPathGroup.SEARCH.getPatterns())
         .authenticated()
 
         // Deny all other requests
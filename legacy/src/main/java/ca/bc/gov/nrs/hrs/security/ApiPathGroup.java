@@ -0,0 +1,72 @@
+package ca.bc.gov.nrs.hrs.security;
+
+import java.util.Arrays;
+import java.util.List;
+import lombok.Getter;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Groups of HTTP routes exposed by the legacy service.
+ *
+ * <p>The same path groups are used by {@link ApiAuthorizationCustomizer} to define route
+ * authorization rules and by the load shedding filter to classify incoming requests, so a route
+ * added to a group is both secured and admission-controlled consistently.</p>
+ */
+public enum ApiPathGroup {
+
+  /**
+   * Operational endpoints (health probes, metrics and pool report). These are never shed.
+   */
+  ACTUATOR("/health", "/health/**", "/metrics", "/connectionpool"),
+
+  /**
+   * Code list lookups used to populate dropdowns. Cheap, high priority.
+   */
+  CODES("/api/codes/**"),
+
+  /**
+   * Search endpoints. Potentially heavy on Oracle, lowest priority.
+   */
+  SEARCH("/api/search/**"),
+
+  /**
+   * Any route that does not belong to a known group.
+   */
+  OTHER;
+
+  /**
+   * Ant-style path patterns that belong to this group.
+   */
+  @Getter
+  private final String[] patterns;
+
+  private final List<PathPattern> matchers;
+
+  ApiPathGroup(String... patterns) {
+    this.patterns = patterns;
+    this.matchers = Arrays
+        .stream(patterns)
+        .map(PathPatternParser.defaultInstance::parse)
+        .toList();
+  }
+
+  /**
+   * Resolves the group a request path belongs to.
+   *
+   * @param path the request path, relative to the application context
+   * @return the first group with a matching pattern, or {@link #OTHER} when none matches
+   */
+  public static ApiPathGroup fromPath(String path) {
+    PathContainer container = PathContainer.parsePath(path);
+    for (ApiPathGroup group : values()) {
+      for (PathPattern matcher : group.matchers) {
+        if (matcher.matches(container)) {
+          return group;
+        }
+      }
+    }
+    return OTHER;
+  }
+}
@@ -0,0 +1,34 @@
+package ca.bc.gov.nrs.hrs.service;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.springframework.core.annotation.AliasFor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Stereotype for legacy services, which only ever read from Oracle.
+ *
+ * <p>Every public method runs in a read-only transaction. Spring then switches the Hibernate
+ * session to {@code FlushMode.MANUAL}, loads entities read-only (no snapshot kept for
+ * dirty-checking) and marks the JDBC connection read-only for the duration of the call. Use it
+ * instead of {@link Service} for every service in this module.</p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Service
+@Transactional(readOnly = true)
+public @interface ReadOnlyService {
+
+  /**
+   * The bean name, if any.
+   *
+   * @return the suggested component name
+   */
+  @AliasFor(annotation = Service.class)
+  String value() default "";
+}
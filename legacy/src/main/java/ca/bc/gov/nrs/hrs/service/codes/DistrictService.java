@@ -4,13 +4,13 @@ import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration;
 import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
 import ca.bc.gov.nrs.hrs.mappers.codes.DistrictMapper;
 import ca.bc.gov.nrs.hrs.repository.codes.OrgUnitRepository;
+import ca.bc.gov.nrs.hrs.service.ReadOnlyService;
 import io.micrometer.observation.annotation.Observed;
 import io.micrometer.tracing.annotation.NewSpan;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
-import org.springframework.stereotype.Service;
 
 /**
  * Service for retrieving district (organization unit) code lists used by the search UI.
@@ -19,7 +19,7 @@ import org.springframework.stereotype.Service;
  * to {@link CodeDescriptionDto} objects via {@link DistrictMapper}.</p>
  */
 @Slf4j
-@Service
+@ReadOnlyService
 @RequiredArgsConstructor
 @Observed
 public class DistrictService {
@@ -41,7 +41,7 @@ public class DistrictService {
     log.info("Getting all org units for the search openings");
 
     List<CodeDescriptionDto> orgUnits = orgUnitRepository
-        .findAllByOrgUnitCodeInOrderByOrgUnitCodeAsc(configuration.getDistricts())
+        .findCodeNamesByOrgUnitCodeIn(configuration.getDistricts())
         .stream()
         .map(districtMapper::fromProjection)
         .map(code -> code.withDescription(
@@ -0,0 +1,98 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import ca.bc.gov.nrs.hrs.dto.base.OrgUnitDto;
+import ca.bc.gov.nrs.hrs.entity.codes.OrgUnitEntity;
+import ca.bc.gov.nrs.hrs.exception.OrgUnitNotFoundException;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test | Org Unit Hierarchy")
+class OrgUnitHierarchyTest {
+
+  private static final LocalDate TODAY = LocalDate.of(2026, 1, 15);
+  private static final LocalDate OPEN = LocalDate.of(1990, 1, 1);
+  private static final LocalDate NEVER = LocalDate.of(9999, 12, 31);
+
+  private final OrgUnitHierarchy hierarchy = OrgUnitHierarchy.of(List.of(
+      unit(10, "ROK", 'R', 10, 10, OPEN, NEVER),
+      unit(20, "DCK", 'D', 10, 20, OPEN, NEVER),
+      unit(21, "DSQ", 'D', 10, 21, OPEN, NEVER),
+      unit(30, "OCK1", 'O', 10, 20, OPEN, NEVER),
+      unit(31, "OCK2", 'O', 10, 20, OPEN, LocalDate.of(2020, 3, 31)),
+      unit(32, "OSQ1", 'O', 10, 21, LocalDate.of(2026, 6, 1), NEVER)
+  ));
+
+  @Test
+  @DisplayName("should list the districts of a region")
+  void shouldListChildren() {
+    assertThat(codes(hierarchy.children("ROK", TODAY))).containsExactly("DCK", "DSQ");
+  }
+
+  @Test
+  @DisplayName("should list every unit under a region that is effective on the date")
+  void shouldListDescendantsAsOf() {
+    assertThat(codes(hierarchy.descendants("ROK", TODAY)))
+        .containsExactly("DCK", "DSQ", "OCK1");
+    assertThat(codes(hierarchy.descendants("ROK", LocalDate.of(2019, 1, 1))))
+        .containsExactly("DCK", "DSQ", "OCK1", "OCK2");
+    assertThat(codes(hierarchy.descendants("DSQ", LocalDate.of(2026, 6, 1))))
+        .containsExactly("OSQ1");
+  }
+
+  @Test
+  @DisplayName("should list the district and the region of an office, nearest first")
+  void shouldListAncestors() {
+    assertThat(codes(hierarchy.ancestors("OCK1", TODAY))).containsExactly("DCK", "ROK");
+    assertThat(hierarchy.ancestors("ROK", TODAY)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("should not loop on units rolling up to each other")
+  void shouldStopOnCycles() {
+    OrgUnitHierarchy cyclic = OrgUnitHierarchy.of(List.of(
+        unit(1, "AAA", 'D', 2, 2, OPEN, NEVER),
+        unit(2, "BBB", 'D', 1, 1, OPEN, NEVER)
+    ));
+
+    assertThat(codes(cyclic.ancestors("AAA", TODAY))).containsExactly("BBB");
+    assertThat(codes(cyclic.descendants("AAA", TODAY))).containsExactly("BBB");
+  }
+
+  @Test
+  @DisplayName("should fail for an unknown code")
+  void shouldFailForUnknownCode() {
+    assertThatThrownBy(() -> hierarchy.children("NOPE", TODAY))
+        .isInstanceOf(OrgUnitNotFoundException.class);
+  }
+
+  private static List<String> codes(List<OrgUnitDto> units) {
+    return units.stream().map(OrgUnitDto::code).toList();
+  }
+
+  private static OrgUnitEntity unit(
+      long number,
+      String code,
+      char level,
+      long region,
+      long district,
+      LocalDate effective,
+      LocalDate expiry
+  ) {
+    return OrgUnitEntity
+        .builder()
+        .orgUnitNo(number)
+        .orgUnitCode(code)
+        .orgUnitName(code + " unit")
+        .orgLevelCode(level)
+        .rollupRegionNo(region)
+        .rollupDistNo(district)
+        .effectiveDate(effective)
+        .expiryDate(expiry)
+        .build();
+  }
+}
@@ -0,0 +1,164 @@
+package ca.bc.gov.nrs.hrs.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import ca.bc.gov.nrs.hrs.dto.base.WatermarkProjection;
+import ca.bc.gov.nrs.hrs.repository.codes.OrgUnitRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+
+@DisplayName("Unit Test | Reference Data Watcher")
+class ReferenceDataWatcherTest {
+
+  private static final LocalDateTime UPDATED = LocalDateTime.of(2026, 1, 15, 9, 30);
+
+  private final OrgUnitRepository repository = mock(OrgUnitRepository.class);
+  private final ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final ReferenceDataWatcher watcher =
+      new ReferenceDataWatcher(repository, publisher, registry);
+
+  @Test
+  @DisplayName("should publish nothing while the watermark does not move")
+  void shouldPublishNothingWhileUnchanged() {
+    // Given
+    when(repository.findWatermark()).thenReturn(watermark(UPDATED, 120L));
+
+    // When
+    watcher.check();
+    long version = watcher.version();
+    watcher.check();
+
+    // Then
+    assertThat(watcher.version()).isEqualTo(version).isPositive();
+    verify(publisher, never()).publishEvent(any());
+  }
+
+  @Test
+  @DisplayName("should publish a new version when a row is updated or deleted")
+  void shouldPublishWhenWatermarkMoves() {
+    // Given
+    when(repository.findWatermark()).thenReturn(
+        watermark(UPDATED, 120L),
+        watermark(UPDATED.plusSeconds(1), 120L),
+        watermark(UPDATED.plusSeconds(1), 119L)
+    );
+    watcher.check();
+    long initial = watcher.version();
+
+    // When
+    watcher.check();
+    long updated = watcher.version();
+    watcher.check();
+
+    // Then
+    ArgumentCaptor<ReferenceDataChangedEvent> events =
+        ArgumentCaptor.forClass(ReferenceDataChangedEvent.class);
+    verify(publisher, times(2)).publishEvent(events.capture());
+    assertThat(events.getAllValues())
+        .extracting(ReferenceDataChangedEvent::table)
+        .containsOnly(ReferenceDataWatcher.ORG_UNIT);
+    assertThat(updated).isNotEqualTo(initial);
+    assertThat(watcher.version()).isNotIn(initial, updated);
+    assertThat(registry.get("hrs.reference-data.changes").counter().count()).isEqualTo(2d);
+  }
+
+  @Test
+  @DisplayName("should keep the version when the watermark cannot be read")
+  void shouldKeepVersionOnFailure() {
+    // Given
+    when(repository.findWatermark())
+        .thenReturn(watermark(UPDATED, 120L))
+        .thenThrow(new QueryTimeoutException("timeout"));
+    watcher.check();
+    long version = watcher.version();
+
+    // When
+    watcher.check();
+
+    // Then
+    assertThat(watcher.version()).isEqualTo(version);
+    verify(publisher, never()).publishEvent(any());
+  }
+
+  @Test
+  @DisplayName("should keep the version and publish again when a listener fails")
+  void shouldRetryWhenListenerFails() {
+    // Given
+    when(repository.findWatermark()).thenReturn(
+        watermark(UPDATED, 120L),
+        watermark(UPDATED.plusSeconds(1), 120L)
+    );
+    doThrow(new IllegalStateException("scan timed out"))
+        .doNothing()
+        .when(publisher)
+        .publishEvent(any(ReferenceDataChangedEvent.class));
+    watcher.check();
+    long initial = watcher.version();
+
+    // When
+    watcher.check();
+    long afterFailure = watcher.version();
+    watcher.check();
+
+    // Then
+    assertThat(afterFailure).isEqualTo(initial);
+    assertThat(watcher.version()).isNotEqualTo(initial);
+    verify(publisher, times(2)).publishEvent(any(ReferenceDataChangedEvent.class));
+    assertThat(registry.get("hrs.reference-data.changes").counter().count()).isEqualTo(1d);
+  }
+
+  @Test
+  @DisplayName("should not wait for a watermark read in progress")
+  void shouldNotWaitForReadInProgress() throws Exception {
+    // Given
+    CountDownLatch reading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(repository.findWatermark()).thenAnswer(invocation -> {
+      reading.countDown();
+      release.await(10, TimeUnit.SECONDS);
+      return watermark(UPDATED, 120L);
+    });
+    CompletableFuture<Void> scheduled = CompletableFuture.runAsync(watcher::check);
+    assertThat(reading.await(10, TimeUnit.SECONDS)).isTrue();
+
+    // When
+    long whileReading = watcher.version();
+    release.countDown();
+    scheduled.get(10, TimeUnit.SECONDS);
+
+    // Then
+    assertThat(whileReading).isEqualTo(-1L);
+    assertThat(watcher.version()).isPositive();
+    verify(repository, times(1)).findWatermark();
+  }
+
+  private static WatermarkProjection watermark(LocalDateTime lastUpdate, Long rows) {
+    return new WatermarkProjection() {
+      @Override
+      public LocalDateTime getLastUpdate() {
+        return lastUpdate;
+      }
+
+      @Override
+      public Long getRowCount() {
+        return rows;
+      }
+    };
+  }
+}
@@ -0,0 +1,88 @@
+package ca.bc.gov.nrs.hrs.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.web.PagedModel;
+
+/**
+ * JMH measurement of the CPU gzip spends on search pages as they go over the wire.
+ *
+ * <p>The page mirrors a reporting unit search result, serialized the way the controllers do it
+ * ({@link PagedModel}). Levels 1, 6 (what Tomcat uses) and 9 are compared, so the numbers can be
+ * weighed against the {@code server.compression.min-response-size} threshold.</p>
+ *
+ * <p>Run it through {@code CompressionBenchmarkTest} with {@code -Djmh=true}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompressionBenchmark {
+
+  static final ObjectMapper MAPPER = new ObjectMapper()
+      .registerModule(new JavaTimeModule())
+      .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+  /**
+   * Number of rows in the search page.
+   */
+  @Param({"1", "10", "50", "200"})
+  public int rows;
+
+  /**
+   * Deflate level used by the gzip stream.
+   */
+  @Param({"1", "6", "9"})
+  public int level;
+
+  private byte[] json;
+
+  /**
+   * Writes the search page once.
+   *
+   * @throws IOException when the page cannot be written
+   */
+  @Setup
+  public void setUp() throws IOException {
+    json = MAPPER.writeValueAsBytes(SearchPageFixture.page(rows));
+  }
+
+  @Benchmark
+  public byte[] gzip() throws IOException {
+    return gzip(json, level);
+  }
+
+  static byte[] gzip(byte[] value, int level) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream(value.length / 4);
+    try (GZIPOutputStream gzip = new LeveledGzipOutputStream(output, level)) {
+      gzip.write(value);
+    }
+    return output.toByteArray();
+  }
+
+  private static final class LeveledGzipOutputStream extends GZIPOutputStream {
+
+    private LeveledGzipOutputStream(ByteArrayOutputStream output, int level) throws IOException {
+      super(output);
+      def.setLevel(level);
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package ca.bc.gov.nrs.hrs.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collection;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+@Slf4j
+@DisplayName("Unit Test | Compression benchmark")
+class CompressionBenchmarkTest {
+
+  @Test
+  @EnabledIfSystemProperty(named = "jmh", matches = "true")
+  @DisplayName("Run the JMH gzip trade-off")
+  void shouldRunBenchmark() throws Exception {
+    Collection<RunResult> results = new Runner(
+        new OptionsBuilder()
+            .include(CompressionBenchmark.class.getName())
+            .build()
+    ).run();
+
+    for (RunResult result : results) {
+      int rows = Integer.parseInt(result.getParams().getParam("rows"));
+      int level = Integer.parseInt(result.getParams().getParam("level"));
+      byte[] json = CompressionBenchmark.MAPPER.writeValueAsBytes(SearchPageFixture.page(rows));
+      int compressed = CompressionBenchmark.gzip(json, level).length;
+
+      log.info("{} rows, level {}: {} -> {} bytes ({}%), {} us per response",
+          rows, level, json.length, compressed, compressed * 100 / json.length,
+          Math.round(result.getPrimaryResult().getScore())
+      );
+    }
+    assertThat(results).hasSize(12);
+  }
+}
@@ -0,0 +1,53 @@
+package ca.bc.gov.nrs.hrs.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import ca.bc.gov.nrs.hrs.filter.RequestDeadline;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+@DisplayName("Unit Test | Deadline Aware Transaction Manager")
+class DeadlineAwareTransactionManagerTest {
+
+  private final DeadlineAwareTransactionManager manager = new DeadlineAwareTransactionManager();
+
+  @Test
+  @DisplayName("should keep the default timeout outside a request")
+  void shouldKeepDefaultTimeout() {
+    assertThat(manager.determineTimeout(new DefaultTransactionDefinition()))
+        .isEqualTo(TransactionDefinition.TIMEOUT_DEFAULT);
+  }
+
+  @Test
+  @DisplayName("should use the remaining budget, rounded up")
+  void shouldUseRemainingBudget() {
+    try (RequestDeadline.Scope ignored = RequestDeadline.start(Instant.now().plusMillis(2_500))) {
+      assertThat(manager.determineTimeout(new DefaultTransactionDefinition())).isEqualTo(3);
+    }
+  }
+
+  @Test
+  @DisplayName("should keep a shorter declared timeout")
+  void shouldKeepShorterTimeout() {
+    DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+    definition.setTimeout(1);
+
+    try (RequestDeadline.Scope ignored = RequestDeadline.start(Instant.now().plusSeconds(30))) {
+      assertThat(manager.determineTimeout(definition)).isEqualTo(1);
+    }
+  }
+
+  @Test
+  @DisplayName("should not start a transaction after the deadline")
+  void shouldRejectExpiredDeadline() {
+    try (RequestDeadline.Scope ignored = RequestDeadline.start(Instant.now().minusMillis(1))) {
+      assertThatThrownBy(() -> manager.determineTimeout(new DefaultTransactionDefinition()))
+          .isInstanceOf(TransactionTimedOutException.class);
+    }
+  }
+}
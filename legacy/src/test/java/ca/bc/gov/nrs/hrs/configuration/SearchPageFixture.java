@@ -0,0 +1,57 @@
+package ca.bc.gov.nrs.hrs.configuration;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+
+/**
+ * Builds search result pages shaped like a reporting unit search, for the wire format
+ * benchmarks.
+ */
+final class SearchPageFixture {
+
+  private SearchPageFixture() {
+  }
+
+  static PagedModel<ReportingUnitRow> page(int rows) {
+    List<ReportingUnitRow> content = IntStream
+        .range(0, rows)
+        .mapToObj(index -> new ReportingUnitRow(
+            1_000_000L + index,
+            String.format("%08d", 100_000 + index * 7),
+            "FOREST CLIENT " + (index % 37),
+            "DCK",
+            "Chilliwack Natural Resource District",
+            index % 3 == 0 ? "SUB" : "APP",
+            index % 3 == 0 ? "Submitted" : "Approved",
+            LocalDate.of(2024, 1, 1).plusDays(index),
+            "IDIR\\USER" + (index % 5)
+        ))
+        .toList();
+    return new PagedModel<>(new PageImpl<>(content, PageRequest.of(0, rows), 10_000L));
+  }
+
+  record ReportingUnitRow(
+      long reportingUnitId,
+      String clientNumber,
+      String clientName,
+      String districtCode,
+      String districtName,
+      String statusCode,
+      String statusDescription,
+      LocalDate lastUpdated,
+      String submitter
+  ) {
+
+  }
+
+  record SearchPage(
+      List<ReportingUnitRow> content,
+      PagedModel.PageMetadata page
+  ) {
+
+  }
+}
@@ -0,0 +1,85 @@
+package ca.bc.gov.nrs.hrs.configuration;
+
+import ca.bc.gov.nrs.hrs.configuration.SearchPageFixture.SearchPage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.web.PagedModel;
+
+/**
+ * JMH comparison of JSON and Smile on the backend to legacy hop: the time to write a page on
+ * legacy and the time to read it back on the backend.
+ *
+ * <p>Both mappers are configured the same way, as they are by {@code GlobalConfiguration}.</p>
+ *
+ * <p>Run it through {@code SmileBenchmarkTest} with {@code -Djmh=true}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SmileBenchmark {
+
+  /**
+   * Number of rows in the search page.
+   */
+  @Param({"10", "50", "200"})
+  public int rows;
+
+  /**
+   * Which encoding to measure: {@code json} or {@code smile}.
+   */
+  @Param({"json", "smile"})
+  public String format;
+
+  private ObjectMapper mapper;
+  private PagedModel<SearchPageFixture.ReportingUnitRow> page;
+  private byte[] encoded;
+
+  /**
+   * Builds the mapper and writes the search page once.
+   *
+   * @throws IOException when the page cannot be written
+   */
+  @Setup
+  public void setUp() throws IOException {
+    mapper = build(format);
+    page = SearchPageFixture.page(rows);
+    encoded = mapper.writeValueAsBytes(page);
+  }
+
+  static ObjectMapper build(String format) {
+    ObjectMapper mapper = "smile".equals(format)
+        ? new ObjectMapper(new SmileFactory())
+        : new ObjectMapper();
+    return mapper
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+  }
+
+  @Benchmark
+  public byte[] write() throws IOException {
+    return mapper.writeValueAsBytes(page);
+  }
+
+  @Benchmark
+  public SearchPage read() throws IOException {
+    return mapper.readValue(encoded, SearchPage.class);
+  }
+}
@@ -0,0 +1,55 @@
+package ca.bc.gov.nrs.hrs.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.nrs.hrs.configuration.SearchPageFixture.SearchPage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Collection;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.web.PagedModel;
+
+@Slf4j
+@DisplayName("Unit Test | Smile benchmark")
+class SmileBenchmarkTest {
+
+  @Test
+  @DisplayName("Smile reads back the page it wrote")
+  void shouldRoundTripSmile() throws Exception {
+    ObjectMapper smile = SmileBenchmark.build("smile");
+    PagedModel<SearchPageFixture.ReportingUnitRow> page = SearchPageFixture.page(50);
+
+    SearchPage decoded = smile.readValue(smile.writeValueAsBytes(page), SearchPage.class);
+
+    assertThat(decoded.content()).isEqualTo(page.getContent());
+    assertThat(decoded.page()).isEqualTo(page.getMetadata());
+  }
+
+  @Test
+  @EnabledIfSystemProperty(named = "jmh", matches = "true")
+  @DisplayName("Run the JMH comparison")
+  void shouldRunBenchmark() throws Exception {
+    Collection<RunResult> results = new Runner(
+        new OptionsBuilder()
+            .include(SmileBenchmark.class.getName())
+            .build()
+    ).run();
+
+    for (RunResult result : results) {
+      int rows = Integer.parseInt(result.getParams().getParam("rows"));
+      String format = result.getParams().getParam("format");
+      byte[] encoded = SmileBenchmark.build(format).writeValueAsBytes(SearchPageFixture.page(rows));
+
+      log.info("{} {} rows, {}: {} bytes, {} us",
+          result.getParams().getBenchmark(), rows, format, encoded.length,
+          Math.round(result.getPrimaryResult().getScore())
+      );
+    }
+    assertThat(results).hasSize(12);
+  }
+}
@@ -1,17 +1,31 @@
 package ca.bc.gov.nrs.hrs.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import ca.bc.gov.nrs.hrs.cache.CachedResponseBody;
+import ca.bc.gov.nrs.hrs.cache.ReferenceDataWatcher;
+import ca.bc.gov.nrs.hrs.dto.base.CodeDescriptionDto;
 import ca.bc.gov.nrs.hrs.extensions.AbstractTestContainerIntegrationTest;
 import ca.bc.gov.nrs.hrs.extensions.WithMockJwt;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.time.LocalDate;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 @AutoConfigureMockMvc
@@ -22,6 +36,9 @@ class CodesControllerIntegrationTest extends AbstractTestContainerIntegrationTes
   @Autowired
   private MockMvc mockMvc;
 
+  @MockitoBean
+  private ReferenceDataWatcher referenceDataWatcher;
+
   @Test
   @DisplayName("Get districts")
   void getOpeningOrgUnits_happyPath_shouldSucceed() throws Exception {
@@ -38,4 +55,40 @@ class CodesControllerIntegrationTest extends AbstractTestContainerIntegrationTes
         .andReturn();
   }
 
+  @Test
+  @DisplayName("Get districts as Smile when preferred to JSON")
+  void getOpeningOrgUnits_preferringSmile_shouldAnswerSmile() throws Exception {
+    byte[] body = mockMvc
+        .perform(
+            get("/api/codes/districts")
+                .header(HttpHeaders.ACCEPT, "application/x-jackson-smile, application/json;q=0.9"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(CachedResponseBody.SMILE_VALUE))
+        .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+        .andReturn()
+        .getResponse()
+        .getContentAsByteArray();
+
+    List<CodeDescriptionDto> districts = new ObjectMapper(new SmileFactory())
+        .readValue(body, new TypeReference<>() {
+        });
+    assertThat(districts).first().extracting(CodeDescriptionDto::code).isEqualTo("DCC");
+  }
+
+  @Test
+  @DisplayName("Get org-unit ancestors while the version is unknown should not be validated")
+  void getOrgUnitAncestors_unknownVersion_shouldSkipEtag() throws Exception {
+    when(referenceDataWatcher.version()).thenReturn(-1L);
+
+    mockMvc
+        .perform(
+            get("/api/codes/org-units/{code}/ancestors", "DCC")
+                .header(HttpHeaders.IF_NONE_MATCH, "W/\"-1-" + LocalDate.now() + "\"")
+                .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+        .andExpect(header().string(ReferenceDataWatcher.VERSION_HEADER, "-1"))
+        .andReturn();
+  }
+
 }
@@ -16,7 +16,7 @@ import org.testcontainers.oracle.OracleContainer;
 @ContextConfiguration
 public abstract class AbstractTestContainerIntegrationTest {
 
-  static final OracleContainer oracle = new CustomOracleContainer(
+  protected static final OracleContainer oracle = new CustomOracleContainer(
       "gvenzl/oracle-free:23.6-full-faststart");
 
   static {
@@ -0,0 +1,139 @@
+package ca.bc.gov.nrs.hrs.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration;
+import ca.bc.gov.nrs.hrs.configuration.ApplicationConfiguration.LoadSheddingConfiguration;
+import ca.bc.gov.nrs.hrs.security.ApiPathGroup;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@DisplayName("Unit Test | Load Shedding Filter")
+class LoadSheddingFilterTest {
+
+  private SimpleMeterRegistry registry;
+  private LoadSheddingFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    filter = new LoadSheddingFilter(
+        ApplicationConfiguration
+            .builder()
+            .loadShedding(
+                LoadSheddingConfiguration
+                    .builder()
+                    .enabled(true)
+                    .retryAfter(Duration.ofSeconds(7))
+                    .limits(Map.of(ApiPathGroup.SEARCH, 1))
+                    .build()
+            )
+            .build(),
+        registry,
+        new ObjectMapper()
+    );
+  }
+
+  @Test
+  @DisplayName("should classify paths using the security path groups")
+  void shouldClassifyPaths() {
+    assertThat(ApiPathGroup.fromPath("/health")).isEqualTo(ApiPathGroup.ACTUATOR);
+    assertThat(ApiPathGroup.fromPath("/health/readiness")).isEqualTo(ApiPathGroup.ACTUATOR);
+    assertThat(ApiPathGroup.fromPath("/metrics")).isEqualTo(ApiPathGroup.ACTUATOR);
+    assertThat(ApiPathGroup.fromPath("/api/codes/districts")).isEqualTo(ApiPathGroup.CODES);
+    assertThat(ApiPathGroup.fromPath("/api/search/reporting-units"))
+        .isEqualTo(ApiPathGroup.SEARCH);
+    assertThat(ApiPathGroup.fromPath("/api/unknown")).isEqualTo(ApiPathGroup.OTHER);
+  }
+
+  @Test
+  @DisplayName("should shed requests above the group quota")
+  void shouldShedAboveQuota() throws Exception {
+    // Given
+    MockHttpServletResponse shedResponse = new MockHttpServletResponse();
+    MockHttpServletResponse healthResponse = new MockHttpServletResponse();
+
+    // When a second search and a health probe arrive while the first search is in-flight
+    filter.doFilter(
+        request("/api/search/reporting-units"),
+        new MockHttpServletResponse(),
+        (req, res) -> {
+          filter.doFilter(
+              request("/api/search/reporting-units"), shedResponse, new MockFilterChain()
+          );
+          filter.doFilter(request("/health"), healthResponse, new MockFilterChain());
+        }
+    );
+
+    // Then
+    assertThat(shedResponse.getStatus()).isEqualTo(503);
+    assertThat(shedResponse.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("7");
+    assertThat(shedResponse.getContentType()).isEqualTo("application/problem+json");
+    assertThat(healthResponse.getStatus()).isEqualTo(200);
+    assertThat(registry.get("http.server.requests.shed").tag("group", "search").counter()
+        .count()).isEqualTo(1d);
+  }
+
+  @Test
+  @DisplayName("should release the permit once the request completes")
+  void shouldReleasePermit() throws Exception {
+    // Given
+    MockHttpServletResponse first = new MockHttpServletResponse();
+    MockHttpServletResponse second = new MockHttpServletResponse();
+
+    // When
+    filter.doFilter(request("/api/search/reporting-units"), first, new MockFilterChain());
+    filter.doFilter(request("/api/search/reporting-units"), second, new MockFilterChain());
+
+    // Then
+    assertThat(first.getStatus()).isEqualTo(200);
+    assertThat(second.getStatus()).isEqualTo(200);
+    assertThat(registry.get("http.server.requests.inflight").tag("group", "search").gauge()
+        .value()).isZero();
+  }
+
+  @Test
+  @DisplayName("should default the retry delay when none is configured")
+  void shouldDefaultRetryAfter() throws Exception {
+    // Given
+    LoadSheddingFilter unconfigured = new LoadSheddingFilter(
+        ApplicationConfiguration
+            .builder()
+            .loadShedding(
+                LoadSheddingConfiguration
+                    .builder()
+                    .enabled(true)
+                    .limits(Map.of(ApiPathGroup.SEARCH, 0))
+                    .build()
+            )
+            .build(),
+        new SimpleMeterRegistry(),
+        new ObjectMapper()
+    );
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // When
+    unconfigured.doFilter(
+        request("/api/search/reporting-units"), response, new MockFilterChain()
+    );
+
+    // Then
+    assertThat(response.getStatus()).isEqualTo(503);
+    assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("5");
+  }
+
+  private static MockHttpServletRequest request(String path) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+    request.setRequestURI(path);
+    return request;
+  }
+}
@@ -0,0 +1,139 @@
+package ca.bc.gov.nrs.hrs.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.nrs.hrs.extensions.AbstractTestContainerIntegrationTest;
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Properties;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Measures the effect of the JDBC tuning values against Oracle Free.
+ *
+ * <p>Round trips and parse calls are read from {@code v$mystat}, which requires the
+ * {@code SYSTEM} account, so the measurements use their own connections instead of the pool.</p>
+ */
+@Slf4j
+@DisplayName("Integrated Test | Oracle round trip benchmark")
+class OracleRoundTripBenchmarkIntegrationTest extends AbstractTestContainerIntegrationTest {
+
+  private static final String ROUND_TRIPS = "SQL*Net roundtrips to/from client";
+  private static final String PARSE_COUNT = "parse count (total)";
+  private static final String STATEMENT_CACHE = "oracle.jdbc.implicitStatementCacheSize";
+  private static final int DRIVER_DEFAULT_FETCH_SIZE = 10;
+  private static final int ROWS = 500;
+
+  private static final String STATISTIC_QUERY = """
+      SELECT s.value
+      FROM v$mystat s
+      JOIN v$statname n ON n.statistic# = s.statistic#
+      WHERE n.name = ?""";
+
+  private static final String ROWS_QUERY = """
+      SELECT LEVEL AS id, RPAD('x', 64, 'x') AS pad
+      FROM DUAL
+      CONNECT BY LEVEL <= ?""";
+
+  private static final String LOOKUP_QUERY =
+      "SELECT org_unit_code, org_unit_name FROM THE.ORG_UNIT WHERE org_unit_no = ?";
+
+  @Autowired
+  private DataSource dataSource;
+
+  @Test
+  @DisplayName("Lookup fetch size reduces round trips")
+  void shouldReduceRoundTrips() throws SQLException {
+    int tunedFetchSize = Integer.parseInt(QueryConstants.LOOKUP_FETCH_SIZE);
+
+    try (Connection connection = systemConnection(new Properties())) {
+      long defaultTrips = roundTrips(connection, DRIVER_DEFAULT_FETCH_SIZE);
+      long tunedTrips = roundTrips(connection, tunedFetchSize);
+
+      log.info("{} rows: {} round trips with fetch size {}, {} with fetch size {}",
+          ROWS, defaultTrips, DRIVER_DEFAULT_FETCH_SIZE, tunedTrips, tunedFetchSize);
+
+      assertThat(tunedTrips).isLessThan(defaultTrips);
+    }
+  }
+
+  @Test
+  @DisplayName("Implicit statement cache avoids repeated parse calls")
+  void shouldAvoidRepeatedParses() throws SQLException {
+    String cacheSize = dataSource
+        .unwrap(HikariDataSource.class)
+        .getDataSourceProperties()
+        .getProperty(STATEMENT_CACHE);
+    assertThat(cacheSize).isNotBlank();
+
+    Properties cached = new Properties();
+    cached.setProperty(STATEMENT_CACHE, cacheSize);
+
+    long uncachedParses;
+    long cachedParses;
+    try (Connection connection = systemConnection(new Properties())) {
+      uncachedParses = parses(connection);
+    }
+    try (Connection connection = systemConnection(cached)) {
+      cachedParses = parses(connection);
+    }
+
+    log.info("20 executions: {} parse calls without statement cache, {} with a cache of {}",
+        uncachedParses, cachedParses, cacheSize);
+
+    assertThat(cachedParses).isLessThan(uncachedParses);
+  }
+
+  private long roundTrips(Connection connection, int fetchSize) throws SQLException {
+    long before = statistic(connection, ROUND_TRIPS);
+    try (PreparedStatement statement = connection.prepareStatement(ROWS_QUERY)) {
+      statement.setFetchSize(fetchSize);
+      statement.setInt(1, ROWS);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        int count = 0;
+        while (resultSet.next()) {
+          count++;
+        }
+        assertThat(count).isEqualTo(ROWS);
+      }
+    }
+    return statistic(connection, ROUND_TRIPS) - before;
+  }
+
+  private long parses(Connection connection) throws SQLException {
+    long before = statistic(connection, PARSE_COUNT);
+    for (int i = 0; i < 20; i++) {
+      try (PreparedStatement statement = connection.prepareStatement(LOOKUP_QUERY)) {
+        statement.setLong(1, 1826L);
+        try (ResultSet resultSet = statement.executeQuery()) {
+          assertThat(resultSet.next()).isTrue();
+        }
+      }
+    }
+    return statistic(connection, PARSE_COUNT) - before;
+  }
+
+  private long statistic(Connection connection, String name) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(STATISTIC_QUERY)) {
+      statement.setString(1, name);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        resultSet.next();
+        return resultSet.getLong(1);
+      }
+    }
+  }
+
+  private static Connection systemConnection(Properties properties) throws SQLException {
+    properties.setProperty("user", "system");
+    properties.setProperty("password", oracle.getPassword());
+    return DriverManager.getConnection(oracle.getJdbcUrl(), properties);
+  }
+}
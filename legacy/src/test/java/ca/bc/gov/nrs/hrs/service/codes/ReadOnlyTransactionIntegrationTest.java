@@ -0,0 +1,111 @@
+package ca.bc.gov.nrs.hrs.service.codes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.nrs.hrs.dto.base.CodeNameProjection;
+import ca.bc.gov.nrs.hrs.entity.codes.OrgUnitEntity;
+import ca.bc.gov.nrs.hrs.extensions.AbstractTestContainerIntegrationTest;
+import ca.bc.gov.nrs.hrs.repository.StatelessQueryExecutor;
+import ca.bc.gov.nrs.hrs.repository.codes.OrgUnitRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("Integrated Test | Read-only transactions")
+class ReadOnlyTransactionIntegrationTest extends AbstractTestContainerIntegrationTest {
+
+  @Autowired
+  private DistrictService districtService;
+
+  @Autowired
+  private OrgUnitRepository orgUnitRepository;
+
+  @Autowired
+  private StatelessQueryExecutor statelessQueryExecutor;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+  }
+
+  @Test
+  @DisplayName("District lookup neither flushes nor loads entities")
+  void shouldNotFlushOrLoadEntities() {
+    assertThat(districtService.findAllOrgUnits()).isNotEmpty();
+
+    assertThat(statistics.getFlushCount()).isZero();
+    assertThat(statistics.getEntityLoadCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("Entities loaded in a read-only transaction keep no snapshot")
+  void shouldLoadEntitiesReadOnly() {
+    TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+    readOnly.setReadOnly(true);
+
+    readOnly.executeWithoutResult(status -> {
+      Session session = entityManager.unwrap(Session.class);
+      List<OrgUnitEntity> units = orgUnitRepository
+          .findAll(Sort.by("orgUnitCode"))
+          .stream()
+          .filter(unit -> List.of("DCC", "DCS").contains(unit.getOrgUnitCode()))
+          .toList();
+
+      assertThat(units).hasSize(2);
+      assertThat(session.getHibernateFlushMode()).isEqualTo(FlushMode.MANUAL);
+      assertThat(session.isDefaultReadOnly()).isTrue();
+      assertThat(units).allSatisfy(unit -> assertThat(session.isReadOnly(unit)).isTrue());
+
+      units.get(0).setOrgUnitName("Changed in a read-only transaction");
+    });
+
+    assertThat(statistics.getFlushCount()).isZero();
+    assertThat(statistics.getEntityUpdateCount()).isZero();
+    assertThat(orgUnitRepository.findCodeNamesByOrgUnitCodeIn(List.of("DCC")))
+        .singleElement()
+        .extracting(CodeNameProjection::getName)
+        .isEqualTo("Cariboo-Chilcotin Natural Resource District");
+  }
+
+  @Test
+  @DisplayName("Stateless scans stream rows without a persistence context")
+  void shouldScanWithoutPersistenceContext() {
+    List<OrgUnitEntity> units = new ArrayList<>();
+
+    long rows = statelessQueryExecutor.scan(
+        "FROM OrgUnitEntity o WHERE o.orgLevelCode = :level",
+        OrgUnitEntity.class,
+        Map.of("level", 'D'),
+        units::add
+    );
+
+    assertThat(rows).isEqualTo(units.size()).isPositive();
+    assertThat(statistics.getFlushCount()).isZero();
+    assertThat(statistics.getEntityUpdateCount()).isZero();
+  }
+}